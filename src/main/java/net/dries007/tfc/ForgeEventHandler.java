@@ -10,6 +10,7 @@ import com.mojang.logging.LogUtils;
 import net.minecraft.advancements.CriteriaTriggers;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.RegistryAccess;
 import net.minecraft.core.component.DataComponents;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.core.registries.BuiltInRegistries;
@@ -91,7 +92,9 @@ import net.neoforged.neoforge.event.OnDatapackSyncEvent;
 import net.neoforged.neoforge.event.RegisterCommandsEvent;
 import net.neoforged.neoforge.event.ServerChatEvent;
 import net.neoforged.neoforge.event.TagsUpdatedEvent;
+import net.neoforged.neoforge.event.entity.EntityEvent;
 import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
 import net.neoforged.neoforge.event.entity.EntityMountEvent;
 import net.neoforged.neoforge.event.entity.ProjectileImpactEvent;
 import net.neoforged.neoforge.event.entity.item.ItemExpireEvent;
@@ -113,8 +116,10 @@ import net.neoforged.neoforge.event.level.ExplosionEvent;
 import net.neoforged.neoforge.event.level.LevelEvent;
 import net.neoforged.neoforge.event.level.block.CreateFluidSourceEvent;
 import net.neoforged.neoforge.event.level.block.CropGrowEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
 import net.neoforged.neoforge.event.tick.LevelTickEvent;
 import net.neoforged.neoforge.event.tick.PlayerTickEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
 import net.neoforged.neoforge.network.PacketDistributor;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -167,6 +172,8 @@ import net.dries007.tfc.common.container.PestContainer;
 import net.dries007.tfc.common.effect.TFCEffects;
 import net.dries007.tfc.common.entities.misc.HoldingMinecart;
 import net.dries007.tfc.common.entities.predator.Predator;
+import net.dries007.tfc.common.entities.prey.Pest;
+import net.dries007.tfc.common.entities.prey.PestTracker;
 import net.dries007.tfc.common.fluids.FluidHelpers;
 import net.dries007.tfc.common.items.BlowpipeItem;
 import net.dries007.tfc.common.items.TFCShieldItem;
@@ -175,6 +182,7 @@ import net.dries007.tfc.common.recipes.CollapseRecipe;
 import net.dries007.tfc.common.recipes.LandslideRecipe;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.mixin.accessor.RecipeManagerAccessor;
+import net.dries007.tfc.network.ChunkWatchBatcher;
 import net.dries007.tfc.network.DataManagerSyncPacket;
 import net.dries007.tfc.network.EffectExpirePacket;
 import net.dries007.tfc.network.PlayerDrinkPacket;
@@ -188,6 +196,7 @@ import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.ClimateModel;
 import net.dries007.tfc.util.climate.OverworldClimateModel;
 import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.data.DataManager;
 import net.dries007.tfc.util.data.DataManagers;
 import net.dries007.tfc.util.data.Drinkable;
 import net.dries007.tfc.util.data.Fertilizer;
@@ -214,6 +223,7 @@ public final class ForgeEventHandler
 
         bus.addListener(ForgeEventHandler::onCreateWorldSpawn);
         bus.addListener(ForgeEventHandler::onChunkWatch);
+        bus.addListener(ForgeEventHandler::onServerTickSendChunkWatch);
         bus.addListener(EventPriority.LOW, ForgeEventHandler::registerCommands); // Must come after neo, since we take over `/neoforge day`
         bus.addListener(ForgeEventHandler::onBlockBroken);
         bus.addListener(ForgeEventHandler::onBlockPlace);
@@ -237,6 +247,9 @@ public final class ForgeEventHandler
         bus.addListener(ForgeEventHandler::onLivingSpawnCheck);
         bus.addListener(ForgeEventHandler::onItemStacked);
         bus.addListener(ForgeEventHandler::onEntityJoinLevel);
+        bus.addListener(EventPriority.LOWEST, ForgeEventHandler::onEntityJoinLevelTrackPests);
+        bus.addListener(ForgeEventHandler::onEntityLeaveLevel);
+        bus.addListener(ForgeEventHandler::onEntityEnteringSection);
         bus.addListener(ForgeEventHandler::onItemExpire);
         bus.addListener(ForgeEventHandler::onPlayerLoggedIn);
         bus.addListener(ForgeEventHandler::onPlayerRespawn);
@@ -251,6 +264,7 @@ public final class ForgeEventHandler
         bus.addListener(ForgeEventHandler::onItemUseFinish);
         bus.addListener(ForgeEventHandler::addReloadListeners);
         bus.addListener(ForgeEventHandler::onDataPackSync);
+        bus.addListener(ForgeEventHandler::onServerStopped);
         bus.addListener(ForgeEventHandler::onTagsUpdated);
         bus.addListener(ForgeEventHandler::onBoneMeal);
         bus.addListener(EventPriority.HIGHEST, ForgeEventHandler::onSelectClimateModel);
@@ -325,10 +339,16 @@ public final class ForgeEventHandler
         final ChunkData chunkData = ChunkData.get(event.getChunk());
         if (chunkData.status() == ChunkData.Status.FULL)
         {
-            PacketDistributor.sendToPlayer(event.getPlayer(), chunkData.getUpdatePacket());
+            ChunkWatchBatcher.queue(event.getPlayer(), chunkData.getUpdateEntry());
         }
     }
 
+    public static void onServerTickSendChunkWatch(ServerTickEvent.Post event)
+    {
+        // Chunks are sent to players during the tick, so send all chunk data queued during the tick, batched together
+        ChunkWatchBatcher.sendAll();
+    }
+
     public static void registerCommands(RegisterCommandsEvent event)
     {
         LOGGER.debug("Registering TFC Commands");
@@ -881,18 +901,11 @@ public final class ForgeEventHandler
                 {
                     if (!TFCConfig.SERVER.enableVanillaMonstersOnSurface.get())
                     {
+                        // Checks are ordered cheapest first: the heightmap is a single array lookup, while the light level queries both light engines
                         final BlockPos pos = entity.blockPosition();
-                        if (entity.getType() != EntityType.SLIME && level.getRawBrightness(pos, 0) != 0)
-                        {
-                            event.setSpawnCancelled(true);
-                            event.setCanceled(true);
-                        }
-                        else if (level.getHeight(Heightmap.Types.WORLD_SURFACE, pos.getX(), pos.getZ()) <= pos.getY())
-                        {
-                            event.setSpawnCancelled(true);
-                            event.setCanceled(true);
-                        }
-                        else if (!Helpers.isBlock(level.getBlockState(pos.below()), TFCTags.Blocks.MONSTER_SPAWNS_ON))
+                        if (level.getHeight(Heightmap.Types.WORLD_SURFACE, pos.getX(), pos.getZ()) <= pos.getY()
+                            || !Helpers.isBlock(level.getBlockState(pos.below()), TFCTags.Blocks.MONSTER_SPAWNS_ON)
+                            || (entity.getType() != EntityType.SLIME && level.getRawBrightness(pos, 0) != 0))
                         {
                             event.setSpawnCancelled(true);
                             event.setCanceled(true);
@@ -1004,6 +1017,36 @@ public final class ForgeEventHandler
         }
     }
 
+    /**
+     * Maintains the per-chunk pest counts in {@link PestTracker}. This listens at lowest priority, and ignores canceled events, so every counted
+     * join is matched by a leave event.
+     */
+    public static void onEntityJoinLevelTrackPests(EntityJoinLevelEvent event)
+    {
+        if (event.getEntity() instanceof Pest pest && !event.getLevel().isClientSide)
+        {
+            PestTracker.get(event.getLevel()).add(pest.chunkPosition());
+        }
+    }
+
+    public static void onEntityLeaveLevel(EntityLeaveLevelEvent event)
+    {
+        if (event.getEntity() instanceof Pest pest && !event.getLevel().isClientSide)
+        {
+            PestTracker.get(event.getLevel()).remove(pest.chunkPosition());
+        }
+    }
+
+    public static void onEntityEnteringSection(EntityEvent.EnteringSection event)
+    {
+        if (event.getEntity() instanceof Pest pest && event.didChunkChange() && !pest.level().isClientSide)
+        {
+            final PestTracker tracker = PestTracker.get(pest.level());
+            tracker.remove(event.getOldPos().chunk());
+            tracker.add(event.getNewPos().chunk());
+        }
+    }
+
     /**
      * If the item is heated, we check for blocks below and within that would cause it to cool.
      * Since we don't want the item to actually expire, we set the expiry time to a small number that allows us to revisit the same code soon.
@@ -1334,16 +1377,23 @@ public final class ForgeEventHandler
 
     public static void onDataPackSync(OnDatapackSyncEvent event)
     {
+        final RegistryAccess registryAccess = event.getPlayerList().getServer().registryAccess();
         if (event.getPlayer() == null)
         {
-            PacketDistributor.sendToAllPlayers(new DataManagerSyncPacket());
+            // Sent to all players after a reload, so only send what changed
+            PacketDistributor.sendToAllPlayers(DataManagerSyncPacket.create(registryAccess, true));
         }
         else
         {
-            PacketDistributor.sendToPlayer(event.getPlayer(), new DataManagerSyncPacket());
+            PacketDistributor.sendToPlayer(event.getPlayer(), DataManagerSyncPacket.create(registryAccess, false));
         }
     }
 
+    public static void onServerStopped(ServerStoppedEvent event)
+    {
+        DataManagers.REGISTRY.forEach(DataManager::clearSyncState);
+    }
+
     /**
      * This is when tags are safe to be loaded, so we can do post reload actions that involve querying ingredients.
      * It is fired on both logical server and client after resources are reloaded (or, sent from server).
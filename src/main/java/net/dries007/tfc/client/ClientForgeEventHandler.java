@@ -29,6 +29,7 @@ import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.tags.ItemTags;
 import net.minecraft.util.Mth;
 import net.minecraft.world.InteractionHand;
@@ -82,6 +83,7 @@ import net.dries007.tfc.common.component.heat.HeatCapability;
 import net.dries007.tfc.common.component.heat.IHeat;
 import net.dries007.tfc.common.component.item.ItemListComponent;
 import net.dries007.tfc.common.component.size.ItemSizeManager;
+import net.dries007.tfc.common.entities.ai.EntityQueryCache;
 import net.dries007.tfc.common.items.EmptyPanItem;
 import net.dries007.tfc.common.items.PanItem;
 import net.dries007.tfc.common.recipes.ChiselRecipe;
@@ -191,6 +193,11 @@ public class ClientForgeEventHandler
                     final int approxSurfaceY = mc.level.getHeight(Heightmap.Types.MOTION_BLOCKING, pos.getX(), pos.getZ());
                     ex.chunkDataGenerator().displayDebugInfo(tooltip, pos, approxSurfaceY);
                 }
+                final ServerLevel serverLevel = server != null ? server.getLevel(mc.level.dimension()) : null;
+                if (serverLevel != null)
+                {
+                    tooltip.add(EntityQueryCache.get(serverLevel).getDebugInfo());
+                }
             }
         }
     }
@@ -384,6 +391,7 @@ public class ClientForgeEventHandler
         {
             Calendars.CLIENT.resetToDefault();
             IndirectHashCollection.clearAllCaches();
+            ClimateTintCache.invalidateAll();
         }
     }
 
@@ -0,0 +1,194 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.client;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+import net.dries007.tfc.util.calendar.Calendars;
+import net.dries007.tfc.util.climate.Climate;
+import net.dries007.tfc.util.climate.ClimateModel;
+import net.dries007.tfc.world.FastConcurrentCache;
+import net.dries007.tfc.world.TFCChunkGenerator;
+
+/**
+ * A client side cache of climate based tint colors, used by {@link TFCColors} for grass and foliage. Block color handlers are invoked by chunk
+ * meshing for every tinted quad, and each would otherwise query the climate model, and thus the client {@link net.dries007.tfc.world.chunkdata.ChunkData}.
+ * <p>
+ * Each chunk holds a 16x16 grid of colors per colormap per y level, which are computed lazily, along with the per-column inputs for seasonal
+ * foliage. Entries are valid for a single calendar day, and are invalidated when new chunk data is received via a {@link net.dries007.tfc.network.ChunkWatchPacket},
+ * or when the colormaps are reloaded.
+ * <p>
+ * This is safe to access from chunk meshing threads.
+ */
+public final class ClimateTintCache
+{
+    public static final int GRASS = 0;
+    public static final int TALL_GRASS = 1;
+    public static final int FOLIAGE = 2;
+
+    private static final int COLORMAPS = 3;
+    private static final int CACHE_SIZE = 1024;
+    private static final int UNKNOWN = 0;
+
+    private static volatile FastConcurrentCache<Entry> cache = new FastConcurrentCache<>(CACHE_SIZE);
+
+    /**
+     * @return The cached entry for the chunk containing {@code pos}, valid for the current calendar day.
+     */
+    public static Entry get(Level level, BlockPos pos)
+    {
+        final int chunkX = SectionPos.blockToSectionCoord(pos.getX());
+        final int chunkZ = SectionPos.blockToSectionCoord(pos.getZ());
+        final long day = Calendars.CLIENT.getTotalCalendarDays();
+        final FastConcurrentCache<Entry> cache = ClimateTintCache.cache;
+
+        Entry entry = cache.getIfPresent(chunkX, chunkZ);
+        if (entry == null || entry.level != level || entry.day != day)
+        {
+            entry = new Entry(level, new ChunkPos(chunkX, chunkZ), day);
+            cache.set(chunkX, chunkZ, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Invalidates a single chunk, called when the client receives updated chunk data.
+     */
+    public static void invalidate(ChunkPos pos)
+    {
+        cache.set(pos.x, pos.z, null);
+    }
+
+    /**
+     * Invalidates all cached tints, called when colormaps are reloaded, or the client disconnects.
+     */
+    public static void invalidateAll()
+    {
+        cache = new FastConcurrentCache<>(CACHE_SIZE);
+    }
+
+    public static final class Entry
+    {
+        private final Level level;
+        private final long day;
+        private final int minY;
+
+        /** Colors, indexed by [colormap][y - minY][column]. Layers are created lazily, and colors are computed on demand. */
+        private final int[][][] layers;
+
+        /** Per-column inputs for seasonal foliage, which are independent of y level. */
+        private final float[] averageTemperature = new float[16 * 16];
+        private final int[] groundwaterIndex = new int[16 * 16];
+        private final int[] averageGroundwaterIndex = new int[16 * 16];
+        private final float[] autumnStart = new float[16 * 16];
+        private final float[] autumnEnd = new float[16 * 16];
+
+        Entry(Level level, ChunkPos pos, long day)
+        {
+            this.level = level;
+            this.day = day;
+            this.minY = level.getMinBuildHeight();
+            this.layers = new int[COLORMAPS][level.getHeight()][];
+
+            final ClimateModel model = Climate.get(level);
+            final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+            for (int x = 0; x < 16; x++)
+            {
+                for (int z = 0; z < 16; z++)
+                {
+                    final int i = x | (z << 4);
+                    cursor.set(pos.getBlockX(x), TFCChunkGenerator.SEA_LEVEL_Y, pos.getBlockZ(z));
+
+                    final float temp = model.getAverageTemperature(level, cursor);
+                    final float tempClamped = temp > 12f ? 12f : Math.max(temp, -20f);
+                    final float cubedTerm = 1.5f * (float) Math.pow(tempClamped + 3f, 3f) / 4913f;
+                    final float squaredTerm = 0.5f * (float) Math.pow(tempClamped + 3f, 2f) / 289f;
+                    final float start = (cubedTerm + squaredTerm + 8.5f) / 12f;
+
+                    averageTemperature[i] = temp;
+                    groundwaterIndex[i] = TFCColors.groundwaterIndex(model.getGroundwater(level, cursor));
+                    averageGroundwaterIndex[i] = TFCColors.groundwaterIndex(model.getAverageGroundwater(level, cursor));
+                    autumnStart[i] = start;
+                    autumnEnd[i] = temp > 12f ? start : (cubedTerm - squaredTerm + 10.5f) / 12f;
+                }
+            }
+        }
+
+        /**
+         * @return The color from the given {@code colorCache}, sampled at the current temperature and groundwater at {@code pos}.
+         */
+        public int getClimateColor(int colormap, int[] colorCache, BlockPos pos)
+        {
+            final int y = pos.getY() - minY;
+            if (y < 0 || y >= layers[colormap].length)
+            {
+                final ClimateModel model = Climate.get(level);
+                return TFCColors.getClimateColor(colorCache, model.getTemperature(level, pos), model.getGroundwater(level, pos));
+            }
+
+            final int[] layer = getLayer(colormap, y);
+            final int i = column(pos);
+            int color = layer[i];
+            if (color == UNKNOWN)
+            {
+                color = colorCache[TFCColors.temperatureIndex(Climate.getTemperature(level, pos)) | groundwaterIndex[i]];
+                layer[i] = color;
+            }
+            return color;
+        }
+
+        /**
+         * @return The color from the given {@code colorCache}, sampled at the average temperature and average groundwater at {@code pos}.
+         */
+        public int getAverageClimateColor(int[] colorCache, BlockPos pos)
+        {
+            final int i = column(pos);
+            return colorCache[TFCColors.temperatureIndex(averageTemperature[i]) | averageGroundwaterIndex[i]];
+        }
+
+        public float getAverageTemperature(BlockPos pos)
+        {
+            return averageTemperature[column(pos)];
+        }
+
+        public float getAutumnStart(BlockPos pos)
+        {
+            return autumnStart[column(pos)];
+        }
+
+        public float getAutumnEnd(BlockPos pos)
+        {
+            return autumnEnd[column(pos)];
+        }
+
+        private int[] getLayer(int colormap, int y)
+        {
+            int[] layer = layers[colormap][y];
+            if (layer == null)
+            {
+                synchronized (this)
+                {
+                    layer = layers[colormap][y];
+                    if (layer == null)
+                    {
+                        layer = new int[16 * 16]; // Filled with UNKNOWN
+                        layers[colormap][y] = layer;
+                    }
+                }
+            }
+            return layer;
+        }
+
+        private int column(BlockPos pos)
+        {
+            return (pos.getX() & 15) | ((pos.getZ() & 15) << 4);
+        }
+    }
+}
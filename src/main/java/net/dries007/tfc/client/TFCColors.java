@@ -81,26 +81,31 @@ public final class TFCColors
     public static void setFoliageColors(int[] foliageColorsCache)
     {
         FOLIAGE_COLORS_CACHE = foliageColorsCache;
+        ClimateTintCache.invalidateAll();
     }
 
     public static void setFoliageFallColors(int[] foliageFallColorsCache)
     {
         FOLIAGE_FALL_COLORS_CACHE = foliageFallColorsCache;
+        ClimateTintCache.invalidateAll();
     }
 
     public static void setFoliageWinterColors(int[] foliageWinterColorsCache)
     {
         FOLIAGE_WINTER_COLORS_CACHE = foliageWinterColorsCache;
+        ClimateTintCache.invalidateAll();
     }
 
     public static void setGrassColors(int[] grassColorsCache)
     {
         GRASS_COLORS_CACHE = grassColorsCache;
+        ClimateTintCache.invalidateAll();
     }
 
     public static void setTallGrassColors(int[] tallGrassColorsCache)
     {
         TALL_GRASS_COLORS_CACHE = tallGrassColorsCache;
+        ClimateTintCache.invalidateAll();
     }
 
     public static int getSkyColor(CommonLevelAccessor level, Biome biome, BlockPos pos)
@@ -138,19 +143,20 @@ public final class TFCColors
     private static int getSeasonalFoliageColor(BlockPos pos, int autumnIndex)
     {
         final Level level = ClientHelpers.getLevel();
-        float temp = Climate.getAverageTemperature(level, pos);
-        float timeOfYear = Calendars.CLIENT.getCalendarFractionOfYear();
-        final float tempClamped = temp > 12f ? 12f : Math.max(temp, -20f);
-
-        final float cubedTerm = 1.5f * (float) Math.pow(tempClamped + 3f, 3f) / 4913f;
-        final float squaredTerm = 0.5f * (float) Math.pow(tempClamped + 3f, 2f) / 289f;
-        final float autumnStart = (cubedTerm + squaredTerm + 8.5f) / 12f;
-        final float autumnEnd = temp > 12f ? autumnStart : (cubedTerm - squaredTerm + 10.5f) / 12f;
+        if (level == null)
+        {
+            return 0;
+        }
+
+        final ClimateTintCache.Entry tints = ClimateTintCache.get(level, pos);
+        final float timeOfYear = Calendars.CLIENT.getCalendarFractionOfYear();
+        final float autumnStart = tints.getAutumnStart(pos);
+        final float autumnEnd = tints.getAutumnEnd(pos);
         final float springStart = 1f - autumnEnd;
 
         if (timeOfYear > autumnEnd)
         {
-            return getAverageClimateColor(FOLIAGE_WINTER_COLORS_CACHE, pos, temp);
+            return tints.getAverageClimateColor(FOLIAGE_WINTER_COLORS_CACHE, pos);
         }
         else if (timeOfYear > autumnStart)
         {
@@ -158,11 +164,11 @@ public final class TFCColors
         }
         else if (timeOfYear > springStart)
         {
-            return getClimateColor(FOLIAGE_COLORS_CACHE, pos);
+            return getClimateColor(ClimateTintCache.FOLIAGE, FOLIAGE_COLORS_CACHE, pos);
         }
         else
         {
-            return getAverageClimateColor(FOLIAGE_WINTER_COLORS_CACHE, pos, temp);
+            return tints.getAverageClimateColor(FOLIAGE_WINTER_COLORS_CACHE, pos);
         }
     }
 
@@ -172,7 +178,7 @@ public final class TFCColors
         {
             if (pos != null)
             {
-                return getClimateColor(FOLIAGE_COLORS_CACHE, pos);
+                return getClimateColor(ClimateTintCache.FOLIAGE, FOLIAGE_COLORS_CACHE, pos);
             }
             return getClimateColor(FOLIAGE_COLORS_CACHE, 10f, 250f); // Default values
         }
@@ -185,7 +191,7 @@ public final class TFCColors
         {
             if (pos != null)
             {
-                return getClimateColor(GRASS_COLORS_CACHE, pos);
+                return getClimateColor(ClimateTintCache.GRASS, GRASS_COLORS_CACHE, pos);
             }
             return getClimateColor(GRASS_COLORS_CACHE, 10f, 250f); // Default values
         }
@@ -198,7 +204,7 @@ public final class TFCColors
         {
             if (pos != null)
             {
-                return getClimateColor(TALL_GRASS_COLORS_CACHE, pos);
+                return getClimateColor(ClimateTintCache.TALL_GRASS, TALL_GRASS_COLORS_CACHE, pos);
             }
             return getClimateColor(TALL_GRASS_COLORS_CACHE, 10f, 250f); // Default values
         }
@@ -221,26 +227,35 @@ public final class TFCColors
         return 0;
     }
 
-    private static int getAverageClimateColor(int[] colorCache, BlockPos pos, float averageTemperature)
+    /**
+     * Queries a color map for a tint color, via the {@link ClimateTintCache}, which is sampled identically to {@link #getClimateColor(int[], BlockPos)}.
+     */
+    private static int getClimateColor(int colormap, int[] colorCache, BlockPos pos)
     {
         final Level level = ClientHelpers.getLevel();
         if (level != null)
         {
-            final float groundwater = Climate.getGroundwater(level, pos);
-            return getClimateColor(colorCache, averageTemperature, groundwater);
+            return ClimateTintCache.get(level, pos).getClimateColor(colormap, colorCache, pos);
         }
         return 0;
     }
 
-
     /**
      * Queries a color map based on temperature and groundwater parameters. Temperature is horizontal, left is high. Groundwater is vertical, up is high.
      */
-    private static int getClimateColor(int[] colorCache, float temperature, float groundwater)
+    static int getClimateColor(int[] colorCache, float temperature, float groundwater)
+    {
+        return colorCache[temperatureIndex(temperature) | groundwaterIndex(groundwater)];
+    }
+
+    static int temperatureIndex(float temperature)
+    {
+        return 255 - Mth.clamp((int) ((temperature + 20f) * 255f / 50f), 0, 255);
+    }
+
+    static int groundwaterIndex(float groundwater)
     {
-        final int temperatureIndex = 255 - Mth.clamp((int) ((temperature + 20f) * 255f / 50f), 0, 255);
-        final int rainfallIndex = 255 - Mth.clamp((int) (groundwater * 255f / 500f), 0, 255);
-        return colorCache[temperatureIndex | (rainfallIndex << 8)];
+        return (255 - Mth.clamp((int) (groundwater * 255f / 500f), 0, 255)) << 8;
     }
 
     private static int getAutumnColor(int[] colorCache, float timeOfYear, float autumnStart, float autumnEnd, BlockPos pos, int autumnIndex)
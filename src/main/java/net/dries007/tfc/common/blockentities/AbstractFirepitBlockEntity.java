@@ -67,8 +67,21 @@ public abstract class AbstractFirepitBlockEntity<C extends IItemHandlerModifiabl
 
     public static void serverTick(Level level, BlockPos pos, BlockState state, AbstractFirepitBlockEntity<?> firepit)
     {
+        if (firepit.isDormant())
+        {
+            // An unlit, cold firepit only needs to check for fuel being thrown in
+            if (level.getGameTime() % 20 == 0)
+            {
+                firepit.gatherItems(level, pos);
+            }
+            return;
+        }
+
         firepit.checkForLastTickSync();
-        firepit.checkForCalendarUpdate();
+        if (!firepit.checkForCalendarUpdate())
+        {
+            return; // Waiting to catch up after a calendar skip
+        }
 
         if (firepit.needsRecipeUpdate)
         {
@@ -77,8 +90,7 @@ public abstract class AbstractFirepitBlockEntity<C extends IItemHandlerModifiabl
         }
         if (level.getGameTime() % 20 == 0)
         {
-            final AABB bounds = new AABB(pos.getX(), pos.getY(), pos.getZ(), pos.getX() + 1, pos.getY() + 0.5, pos.getZ() + 1);
-            Helpers.gatherAndConsumeItems(level, bounds, firepit.inventory, SLOT_FUEL_CONSUME, SLOT_FUEL_INPUT);
+            firepit.gatherItems(level, pos);
             firepit.updateSmokeLevel(state);
         }
 
@@ -113,6 +125,10 @@ public abstract class AbstractFirepitBlockEntity<C extends IItemHandlerModifiabl
         {
             firepit.cascadeFuelSlots();
         }
+        if (!state.getValue(FirepitBlock.LIT) && firepit.temperature <= 0 && firepit.burnTemperature <= 0 && firepit.airTicks <= 0 && !firepit.needsSlotUpdate && !firepit.needsRecipeUpdate)
+        {
+            firepit.sleep(); // Nothing to do until lit, or until the inventory changes
+        }
     }
 
     public static void clientTick(Level level, BlockPos pos, BlockState state, AbstractFirepitBlockEntity<?> firepit)
@@ -217,16 +233,22 @@ public abstract class AbstractFirepitBlockEntity<C extends IItemHandlerModifiabl
         assert level != null;
         if (level.getBlockState(worldPosition).getValue(FirepitBlock.LIT))
         {
-            final HeatCapability.Remainder remainder = HeatCapability.consumeFuelForTicks(ticks, inventory, burnTicks, burnTemperature, SLOT_FUEL_CONSUME, SLOT_FUEL_INPUT);
+            final HeatCapability.Remainder remainder = HeatCapability.consumeFuelForTicks(ticks, temperature, inventory, burnTicks, burnTemperature, SLOT_FUEL_CONSUME, SLOT_FUEL_INPUT);
 
             burnTicks = remainder.burnTicks();
             burnTemperature = remainder.burnTemperature();
+            temperature = remainder.temperature();
+            airTicks = (int) Math.max(0, airTicks - ticks);
             needsSlotUpdate = true;
             if (remainder.ticks() > 0) // Consumed all fuel, so extinguish and cool instantly
             {
                 extinguish(level.getBlockState(worldPosition));
                 coolInstantly();
             }
+            else
+            {
+                heatContentsForTicks(ticks);
+            }
         }
     }
 
@@ -262,6 +284,13 @@ public abstract class AbstractFirepitBlockEntity<C extends IItemHandlerModifiabl
         {
             airTicks = BellowsBlockEntity.MAX_DEVICE_AIR_TICKS;
         }
+        wake();
+    }
+
+    private void gatherItems(Level level, BlockPos pos)
+    {
+        final AABB bounds = new AABB(pos.getX(), pos.getY(), pos.getZ(), pos.getX() + 1, pos.getY() + 0.5, pos.getZ() + 1);
+        Helpers.gatherAndConsumeItems(level, bounds, inventory, SLOT_FUEL_CONSUME, SLOT_FUEL_INPUT);
     }
 
     public void extinguish(BlockState state)
@@ -390,6 +419,11 @@ public abstract class AbstractFirepitBlockEntity<C extends IItemHandlerModifiabl
      */
     protected abstract void coolInstantly();
 
+    /**
+     * Heats any contents of the firepit by the amount they would have been heated over {@code ticks}, during a calendar update. Cooking is then handled by the next tick as normal.
+     */
+    protected void heatContentsForTicks(long ticks) {}
+
     /**
      * Updates cached recipes due to an inventory or other change.
      */
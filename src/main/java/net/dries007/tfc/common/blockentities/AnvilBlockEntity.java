@@ -35,7 +35,6 @@ import net.dries007.tfc.client.particle.TFCParticles;
 import net.dries007.tfc.common.TFCTags;
 import net.dries007.tfc.common.blocks.devices.Tiered;
 import net.dries007.tfc.common.capabilities.InventoryItemHandler;
-import net.dries007.tfc.common.component.forge.ForgeRule;
 import net.dries007.tfc.common.component.forge.ForgeStep;
 import net.dries007.tfc.common.component.forge.Forging;
 import net.dries007.tfc.common.component.forge.ForgingBonus;
@@ -261,7 +260,7 @@ public class AnvilBlockEntity extends InventoryBlockEntity<AnvilBlockEntity.Anvi
                 // And apply the forging bonus, if the recipe says to do so
                 if (recipe.shouldApplyForgingBonus())
                 {
-                    final float ratio = (float) forge.totalWorked() / ForgeRule.calculateOptimalStepsToTarget(recipe.computeTarget(inventory), recipe.getRules());
+                    final float ratio = (float) forge.totalWorked() / recipe.computeOptimalSteps(inventory);
                     final ForgingBonus bonus = ForgingBonus.byRatio(ratio);
 
                     ForgingBonusComponent.set(outputStack, bonus, player);
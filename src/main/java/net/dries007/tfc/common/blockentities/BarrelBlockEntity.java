@@ -82,9 +82,17 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
 
     public static void serverTick(Level level, BlockPos pos, BlockState state, BarrelBlockEntity barrel)
     {
+        if (barrel.isDormant())
+        {
+            return;
+        }
+
         barrel.getRecipe(); // Cache the recipe, so any further operations are done on a loaded recipe cache
         barrel.checkForLastTickSync();
-        barrel.checkForCalendarUpdate();
+        if (!barrel.checkForCalendarUpdate())
+        {
+            return; // Waiting to catch up after a calendar skip
+        }
 
         // Fill / drain from the fluid IO slots every 5 ticks
         if (level.getGameTime() % 5 == 0)
@@ -176,6 +184,8 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
             barrel.inventory.fill(new FluidStack(Fluids.WATER, 1), IFluidHandler.FluidAction.EXECUTE);
             barrel.markForSync();
         }
+
+        barrel.trySleep(sealed);
     }
 
 
@@ -227,6 +237,7 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
         needsInstantRecipeUpdate = true;
         updateRecipe();
         setChanged();
+        wake();
     }
 
     @Override
@@ -235,6 +246,7 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
         needsInstantRecipeUpdate = true;
         updateRecipe();
         setChanged();
+        wake();
     }
 
     @Override
@@ -456,6 +468,25 @@ public class BarrelBlockEntity extends TickableInventoryBlockEntity<BarrelBlockE
         return !getBlockState().getValue(BarrelBlock.SEALED);
     }
 
+    /**
+     * A sealed barrel has nothing to do, other than complete its current recipe, so it goes dormant until the recipe is due, or until modified.
+     */
+    private void trySleep(boolean sealed)
+    {
+        if (sealed && inventory.excess.isEmpty() && !needsInstantRecipeUpdate && soundCooldownTicks == 0)
+        {
+            final @Nullable SealedBarrelRecipe recipe = getRecipe();
+            if (recipe == null || recipe.isInfinite())
+            {
+                sleep();
+            }
+            else
+            {
+                sleepUntil(recipeTick + recipe.getDuration() + 1); // Completes once the duration sealed exceeds the recipe duration
+            }
+        }
+    }
+
     private void updateFluidIOSlots()
     {
         assert level != null;
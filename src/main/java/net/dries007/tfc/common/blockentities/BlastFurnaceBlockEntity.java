@@ -61,7 +61,10 @@ public class BlastFurnaceBlockEntity extends TickableInventoryBlockEntity<BlastF
     public static void serverTick(Level level, BlockPos pos, BlockState state, BlastFurnaceBlockEntity entity)
     {
         entity.checkForLastTickSync();
-        entity.checkForCalendarUpdate();
+        if (!entity.checkForCalendarUpdate())
+        {
+            return; // Waiting to catch up after a calendar skip
+        }
 
         if (level.getGameTime() % 20 == 0)
         {
@@ -365,10 +368,12 @@ public class BlastFurnaceBlockEntity extends TickableInventoryBlockEntity<BlastF
     {
         assert level != null;
 
-        final HeatCapability.Remainder remainder = HeatCapability.consumeFuelForTicks(ticks, burnTicks, burnTemperature, fuelStacks);
+        final HeatCapability.Remainder remainder = HeatCapability.consumeFuelForTicks(ticks, temperature, burnTicks, burnTemperature, fuelStacks);
 
         burnTicks = remainder.burnTicks();
         burnTemperature = remainder.burnTemperature();
+        temperature = remainder.temperature();
+        airTicks = (int) Math.max(0, airTicks - ticks);
 
         if (remainder.ticks() > 0)
         {
@@ -379,6 +384,18 @@ public class BlastFurnaceBlockEntity extends TickableInventoryBlockEntity<BlastF
                 HeatCapability.setTemperature(stack, 0);
             }
         }
+        else
+        {
+            // Heat the contents over the whole period, melting is then handled by the next tick
+            for (ItemStack stack : inputStacks)
+            {
+                final @Nullable IHeat heat = HeatCapability.get(stack);
+                if (heat != null)
+                {
+                    HeatCapability.addTemp(heat, temperature, 3, ticks);
+                }
+            }
+        }
     }
 
     @Nullable
@@ -45,7 +45,10 @@ public class BloomeryBlockEntity extends TickableBlockEntity implements ICalenda
     public static void serverTick(Level level, BlockPos pos, BlockState state, BloomeryBlockEntity bloomery)
     {
         bloomery.checkForLastTickSync();
-        bloomery.checkForCalendarUpdate();
+        if (!bloomery.checkForCalendarUpdate())
+        {
+            return; // Waiting to catch up after a calendar skip
+        }
 
         if (level.getGameTime() % 20 == 0)
         {
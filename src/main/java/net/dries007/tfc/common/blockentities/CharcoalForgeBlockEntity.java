@@ -64,8 +64,21 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
 
     public static void serverTick(Level level, BlockPos pos, BlockState state, CharcoalForgeBlockEntity forge)
     {
+        if (forge.isDormant())
+        {
+            // An unlit, cold forge only needs to check for fuel being thrown in
+            if (level.getGameTime() % 20 == 0)
+            {
+                forge.gatherItems(level, pos);
+            }
+            return;
+        }
+
         forge.checkForLastTickSync();
-        forge.checkForCalendarUpdate();
+        if (!forge.checkForCalendarUpdate())
+        {
+            return; // Waiting to catch up after a calendar skip
+        }
 
         if (forge.needsRecipeUpdate)
         {
@@ -75,9 +88,7 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
 
         if (level.getGameTime() % 20 == 0)
         {
-            // Slurp in charcoal or other fuel.
-            final AABB bounds = new AABB(pos.getX() - 0.2, pos.getY() + 0.875, pos.getZ() - 0.2, pos.getX() + 1.2, pos.getY() + 1.25, pos.getZ() + 1.2);
-            Helpers.gatherAndConsumeItems(level, bounds, forge.inventory, SLOT_FUEL_MIN, SLOT_FUEL_MAX);
+            forge.gatherItems(level, pos);
         }
 
         boolean isRaining = level.isRainingAt(pos);
@@ -142,10 +153,15 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
         {
             forge.cascadeFuelSlots();
         }
+        if (state.getValue(CharcoalForgeBlock.HEAT) == 0 && forge.temperature <= 0 && forge.burnTemperature <= 0 && forge.airTicks <= 0 && !forge.needsSlotUpdate && !forge.needsRecipeUpdate)
+        {
+            forge.sleep(); // Nothing to do until lit, or until the inventory changes
+        }
     }
 
     protected final ContainerData syncableData;
     private final HeatingRecipe[] cachedRecipes = new HeatingRecipe[5];
+    private final HeatingRecipe.Memo[] recipeMemos = new HeatingRecipe.Memo[5];
     private boolean needsSlotUpdate = false;
     private float temperature; // Current Temperature
     private int burnTicks; // Ticks remaining on the current item of fuel
@@ -174,6 +190,7 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
         }
 
         Arrays.fill(cachedRecipes, null);
+        Arrays.setAll(recipeMemos, i -> new HeatingRecipe.Memo());
     }
 
     public void intakeAir(int amount)
@@ -183,6 +200,14 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
         {
             airTicks = BellowsBlockEntity.MAX_DEVICE_AIR_TICKS;
         }
+        wake();
+    }
+
+    private void gatherItems(Level level, BlockPos pos)
+    {
+        // Slurp in charcoal or other fuel.
+        final AABB bounds = new AABB(pos.getX() - 0.2, pos.getY() + 0.875, pos.getZ() - 0.2, pos.getX() + 1.2, pos.getY() + 1.25, pos.getZ() + 1.2);
+        Helpers.gatherAndConsumeItems(level, bounds, inventory, SLOT_FUEL_MIN, SLOT_FUEL_MAX);
     }
 
     @Override
@@ -192,10 +217,12 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
         final BlockState state = level.getBlockState(worldPosition);
         if (state.getValue(CharcoalForgeBlock.HEAT) != 0)
         {
-            HeatCapability.Remainder remainder = HeatCapability.consumeFuelForTicks(ticks, inventory, burnTicks, burnTemperature, SLOT_FUEL_MIN, SLOT_FUEL_MAX);
+            HeatCapability.Remainder remainder = HeatCapability.consumeFuelForTicks(ticks, temperature, inventory, burnTicks, burnTemperature, SLOT_FUEL_MIN, SLOT_FUEL_MAX);
 
             burnTicks = remainder.burnTicks();
             burnTemperature = remainder.burnTemperature();
+            temperature = remainder.temperature();
+            airTicks = (int) Math.max(0, airTicks - ticks);
             needsSlotUpdate = true;
 
             if (remainder.ticks() > 0)
@@ -208,6 +235,18 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
                     HeatCapability.setTemperature(stack, 0);
                 }
             }
+            else
+            {
+                // Heat the contents over the whole period, melting or conversion is then handled by the next tick
+                for (int i = SLOT_INPUT_MIN; i <= SLOT_INPUT_MAX; i++)
+                {
+                    final @Nullable IHeat heat = HeatCapability.get(inventory.getStackInSlot(i));
+                    if (heat != null)
+                    {
+                        HeatCapability.addTemp(heat, temperature, 3, ticks);
+                    }
+                }
+            }
         }
     }
 
@@ -415,12 +454,7 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
         assert level != null;
         for (int i = SLOT_INPUT_MIN; i <= SLOT_INPUT_MAX; i++)
         {
-            cachedRecipes[i - SLOT_INPUT_MIN] = null;
-            ItemStack inputStack = inventory.getStackInSlot(i);
-            if (!inputStack.isEmpty())
-            {
-                cachedRecipes[i - SLOT_INPUT_MIN] = HeatingRecipe.getRecipe(inputStack);
-            }
+            cachedRecipes[i - SLOT_INPUT_MIN] = recipeMemos[i - SLOT_INPUT_MIN].get(inventory.getStackInSlot(i));
         }
     }
 }
@@ -66,7 +66,10 @@ public class CrucibleBlockEntity extends TickableInventoryBlockEntity<CrucibleBl
     public static void serverTick(Level level, BlockPos pos, BlockState state, CrucibleBlockEntity crucible)
     {
         crucible.checkForLastTickSync();
-        crucible.checkForCalendarUpdate();
+        if (!crucible.checkForCalendarUpdate())
+        {
+            return; // Waiting to catch up after a calendar skip
+        }
 
         if (crucible.needsRecipeUpdate)
         {
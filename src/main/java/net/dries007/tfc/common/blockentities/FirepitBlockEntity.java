@@ -56,6 +56,16 @@ public class FirepitBlockEntity extends AbstractFirepitBlockEntity<ItemStackHand
         return FirepitContainer.create(this, playerInv, windowID);
     }
 
+    @Override
+    protected void heatContentsForTicks(long ticks)
+    {
+        final @Nullable IHeat cap = HeatCapability.get(inventory.getStackInSlot(SLOT_ITEM_INPUT));
+        if (cap != null)
+        {
+            HeatCapability.addTemp(cap, temperature, 3, ticks);
+        }
+    }
+
     @Override
     protected void handleCooking()
     {
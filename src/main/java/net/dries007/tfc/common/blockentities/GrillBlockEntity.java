@@ -6,6 +6,7 @@
 
 package net.dries007.tfc.common.blockentities;
 
+import java.util.Arrays;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
@@ -35,12 +36,15 @@ public class GrillBlockEntity extends AbstractFirepitBlockEntity<ItemStackHandle
     public static final int SLOT_EXTRA_INPUT_END = 8;
 
     private final HeatingRecipe[] cachedRecipes;
+    private final HeatingRecipe.Memo[] recipeMemos;
 
     public GrillBlockEntity(BlockPos pos, BlockState state)
     {
         super(TFCBlockEntities.GRILL.get(), pos, state, defaultInventory(9));
 
         cachedRecipes = new HeatingRecipe[5];
+        recipeMemos = new HeatingRecipe.Memo[5];
+        Arrays.setAll(recipeMemos, i -> new HeatingRecipe.Memo());
 
         if (TFCConfig.SERVER.firePitEnableAutomation.get())
         {
@@ -73,6 +77,19 @@ public class GrillBlockEntity extends AbstractFirepitBlockEntity<ItemStackHandle
         return super.isItemValid(slot, stack);
     }
 
+    @Override
+    protected void heatContentsForTicks(long ticks)
+    {
+        for (int slot = SLOT_EXTRA_INPUT_START; slot <= SLOT_EXTRA_INPUT_END; slot++)
+        {
+            final @Nullable IHeat inputHeat = HeatCapability.get(inventory.getStackInSlot(slot));
+            if (inputHeat != null)
+            {
+                HeatCapability.addTemp(inputHeat, temperature, 3, ticks);
+            }
+        }
+    }
+
     @Override
     protected void handleCooking()
     {
@@ -110,8 +127,7 @@ public class GrillBlockEntity extends AbstractFirepitBlockEntity<ItemStackHandle
     {
         for (int slot = SLOT_EXTRA_INPUT_START; slot <= SLOT_EXTRA_INPUT_END; slot++)
         {
-            final ItemStack stack = inventory.getStackInSlot(slot);
-            cachedRecipes[slot - SLOT_EXTRA_INPUT_START] = stack.isEmpty() ? null : HeatingRecipe.getRecipe(stack);
+            cachedRecipes[slot - SLOT_EXTRA_INPUT_START] = recipeMemos[slot - SLOT_EXTRA_INPUT_START].get(inventory.getStackInSlot(slot));
         }
     }
 
@@ -24,6 +24,7 @@ import net.dries007.tfc.common.capabilities.PartialItemHandler;
 import net.dries007.tfc.common.component.EggComponent;
 import net.dries007.tfc.common.component.TFCComponents;
 import net.dries007.tfc.common.container.NestBoxContainer;
+import net.dries007.tfc.common.entities.ai.livestock.NestBoxIndex;
 import net.dries007.tfc.common.entities.livestock.OviparousAnimal;
 import net.dries007.tfc.common.entities.misc.Seat;
 import net.dries007.tfc.config.TFCConfig;
@@ -35,12 +36,19 @@ public class NestBoxBlockEntity extends TickableInventoryBlockEntity<ItemStackHa
 {
     public static final int SLOTS = 4;
 
+    private boolean occupied = false;
+
     public static void serverTick(Level level, BlockPos pos, BlockState state, NestBoxBlockEntity nest)
     {
         nest.checkForLastTickSync();
         if (level.getGameTime() % 30 == 0)
         {
             Entity sitter = Seat.getSittingEntity(level, pos);
+            if ((sitter != null) != nest.occupied)
+            {
+                nest.occupied = sitter != null;
+                nest.updateIndex();
+            }
             if (sitter instanceof OviparousAnimal bird)
             {
                 if (bird.isReadyForAnimalProduct())
@@ -106,6 +114,56 @@ public class NestBoxBlockEntity extends TickableInventoryBlockEntity<ItemStackHa
     {
         super.setAndUpdateSlots(slot);
         markForSync();
+        updateIndex();
+    }
+
+    /**
+     * @return {@code true} if there is no room for another egg in this nest box.
+     */
+    public boolean isFull()
+    {
+        for (int slot = 0; slot < inventory.getSlots(); slot++)
+        {
+            if (inventory.getStackInSlot(slot).isEmpty())
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code true} if an animal was sitting in this nest box, as of the last check.
+     */
+    public boolean isOccupied()
+    {
+        return occupied;
+    }
+
+    @Override
+    protected void onLoadAdditional()
+    {
+        if (level != null && !level.isClientSide)
+        {
+            NestBoxIndex.get(level).add(this);
+        }
+    }
+
+    @Override
+    protected void onUnloadAdditional()
+    {
+        if (level != null && !level.isClientSide)
+        {
+            NestBoxIndex.get(level).remove(worldPosition);
+        }
+    }
+
+    private void updateIndex()
+    {
+        if (level != null && !level.isClientSide && !isRemoved())
+        {
+            NestBoxIndex.get(level).update(worldPosition, isFull(), occupied);
+        }
     }
 
     @Nullable
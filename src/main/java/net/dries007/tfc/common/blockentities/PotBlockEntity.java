@@ -196,10 +196,12 @@ public class PotBlockEntity extends AbstractFirepitBlockEntity<PotBlockEntity.Po
         assert level != null;
         if (level.getBlockState(worldPosition).getValue(FirepitBlock.LIT))
         {
-            final HeatCapability.Remainder remainder = HeatCapability.consumeFuelForTicks(ticks, inventory, burnTicks, burnTemperature, SLOT_FUEL_CONSUME, SLOT_FUEL_INPUT);
+            final HeatCapability.Remainder remainder = HeatCapability.consumeFuelForTicks(ticks, temperature, inventory, burnTicks, burnTemperature, SLOT_FUEL_CONSUME, SLOT_FUEL_INPUT);
 
             burnTicks = remainder.burnTicks();
             burnTemperature = remainder.burnTemperature();
+            temperature = remainder.temperature();
+            airTicks = (int) Math.max(0, airTicks - ticks);
             needsSlotUpdate = true;
             if (remainder.ticks() > 0) // Consumed all fuel, so extinguish and cool instantly
             {
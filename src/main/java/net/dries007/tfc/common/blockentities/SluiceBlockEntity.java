@@ -50,15 +50,21 @@ public class SluiceBlockEntity extends TickableInventoryBlockEntity<ItemStackHan
             return; // only tick the top block
         }
 
+        final boolean activeTick = level.getGameTime() % 20 == 0;
+        if (sluice.isDormant() && !activeTick)
+        {
+            return; // Without flowing water, only check for a change once per second
+        }
+
         final State sluiceState = sluice.getRepresentativeState();
         if (sluiceState == State.NONE)
         {
+            sluice.sleep();
             return; // Skip all updates
         }
+        sluice.wake();
         sluice.checkForLastTickSync();
 
-        final boolean activeTick = level.getGameTime() % 20 == 0;
-
         // If the state is both, aka fully structured, then perform sluice operation
         if (sluiceState == State.BOTH && activeTick)
         {
@@ -13,13 +13,24 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.neoforged.neoforge.common.util.INBTSerializable;
 import net.neoforged.neoforge.items.IItemHandlerModifiable;
 
+import net.dries007.tfc.util.calendar.Calendars;
+import net.dries007.tfc.util.calendar.ICalendarTickable;
+
 /**
  * An extension of {@link InventoryBlockEntity} for block entities that are ticking. This batches sync updates so that they
  * only occur at most once per tick.
+ * <p>
+ * Ticking devices which have no work to do may also go dormant, via {@link #sleep()} or {@link #sleepUntil(long)}, in which case their server
+ * tick should check {@link #isDormant()} and skip all work. They are woken by any change to their inventory, block state, or any other change
+ * which would require a sync, or when a scheduled calendar tick is reached.
  */
 public abstract class TickableInventoryBlockEntity<C extends IItemHandlerModifiable & INBTSerializable<CompoundTag>> extends InventoryBlockEntity<C>
 {
+    private static final long AWAKE = Long.MIN_VALUE;
+
     private boolean needsClientUpdate;
+    private long dormantUntilTick = AWAKE; // The calendar tick until which this is dormant, not serialized
+    private boolean caughtUpWhenDormant; // If this was fully caught up with the calendar when it went dormant
 
     protected TickableInventoryBlockEntity(BlockEntityType<?> type, BlockPos pos, BlockState state, InventoryFactory<C> inventory)
     {
@@ -39,5 +50,69 @@ public abstract class TickableInventoryBlockEntity<C extends IItemHandlerModifia
     public void markForSync()
     {
         needsClientUpdate = true;
+        wake();
+    }
+
+    @Override
+    public void setAndUpdateSlots(int slot)
+    {
+        super.setAndUpdateSlots(slot);
+        wake();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void setBlockState(BlockState state)
+    {
+        super.setBlockState(state);
+        wake();
+    }
+
+    /**
+     * @return {@code true} if this block entity is dormant, and should skip its server tick.
+     */
+    public boolean isDormant()
+    {
+        return dormantUntilTick != AWAKE && !needsClientUpdate && Calendars.SERVER.getTicks() < dormantUntilTick;
+    }
+
+    /**
+     * Makes this block entity dormant until it is woken by a change.
+     */
+    public void sleep()
+    {
+        sleepUntil(Long.MAX_VALUE);
+    }
+
+    /**
+     * Makes this block entity dormant until either it is woken by a change, or the calendar reaches {@code tick}. In the latter case, any
+     * {@link ICalendarTickable} will observe the dormant period as a time skip, so this should only be used when that is handled correctly.
+     */
+    @SuppressWarnings("deprecation")
+    public void sleepUntil(long tick)
+    {
+        if (dormantUntilTick == AWAKE)
+        {
+            caughtUpWhenDormant = !(this instanceof ICalendarTickable tickable) || Calendars.SERVER.getTicks() - tickable.getLastCalendarUpdateTick() <= 1;
+        }
+        dormantUntilTick = tick;
+    }
+
+    /**
+     * Wakes this block entity, if dormant. If it was fully caught up with the calendar when it went dormant, the dormant period is not
+     * observed by an {@link ICalendarTickable} as a time skip, as nothing would have happened in that period. Otherwise, it still has a
+     * time skip outstanding, which is observed along with the dormant period.
+     */
+    @SuppressWarnings("deprecation")
+    public void wake()
+    {
+        if (dormantUntilTick != AWAKE)
+        {
+            dormantUntilTick = AWAKE;
+            if (caughtUpWhenDormant && this instanceof ICalendarTickable tickable && level != null && !level.isClientSide())
+            {
+                tickable.setLastCalendarUpdateTick(Calendars.SERVER.getTicks() - 1);
+            }
+        }
     }
 }
@@ -123,21 +123,21 @@ public class AqueductBlock extends HorizontalDirectionalBlock implements IFluidL
         return state;
     }
 
-    private static void tickAllAdjacentAqueducts(LevelAccessor level, BlockPos pos, int tickDelay, @Nullable Direction excludedDirection)
+    /**
+     * @return The fluid that an aqueduct would be filled with, if next to {@code state}, or {@code null} if it is not a valid source.
+     */
+    @Nullable
+    static Fluid getSourceFluid(BlockState state)
     {
-        for (final Direction direction : Direction.Plane.HORIZONTAL)
+        if (isValidSource(state))
         {
-            if (direction == excludedDirection)
-            {
-                continue;
-            }
-            final BlockPos adjacentPos = pos.relative(direction);
-            final BlockState adjacentState = level.getBlockState(adjacentPos);
-            if (adjacentState.getBlock() instanceof AqueductBlock)
+            final Fluid fluid = state.getFluidState().getType() instanceof FlowingFluid flow ? flow.getSource() : state.getFluidState().getType();
+            if (FLUID.canContain(fluid))
             {
-                level.scheduleTick(adjacentPos, adjacentState.getBlock(), tickDelay);
+                return fluid;
             }
         }
+        return null;
     }
 
     private static int getLightEmission(BlockState state)
@@ -252,92 +252,62 @@ public class AqueductBlock extends HorizontalDirectionalBlock implements IFluidL
     @Override
     protected void tick(BlockState state, ServerLevel level, BlockPos pos, RandomSource random)
     {
-        // First, if we have a fluid, we have to check if this fluid is still valid
+        // Only resolve the whole network if this aqueduct is out of date. Most ticks are scheduled by neighbour updates which don't change anything.
+        if (!isSettled(state, level, pos))
+        {
+            AqueductNetwork.resolve(level, pos);
+        }
+    }
+
+    /**
+     * @return {@code true} if the contents of this aqueduct are consistent with its neighbours: a filled aqueduct still has a valid source,
+     * or an empty aqueduct has no neighbour which could fill it.
+     */
+    private boolean isSettled(BlockState state, ServerLevel level, BlockPos pos)
+    {
         final Direction sourceDirection = state.getValue(FACING);
         final FluidProperty.FluidKey sourceFluid = state.getValue(getFluidProperty());
 
         if (sourceFluid.getFluid() != Fluids.EMPTY)
         {
-            // This aqueduct currently has a fluid, incoming from a direction. Validate that still exists
-            boolean valid = false;
-
-            // Must always be open on this side, otherwise it cannot possibly be valid
-            if (state.getValue(DirectionPropertyBlock.getProperty(sourceDirection)))
+            // This aqueduct currently has a fluid, incoming from a direction. It must always be open on this side, otherwise it cannot possibly be valid
+            if (!state.getValue(DirectionPropertyBlock.getProperty(sourceDirection)))
             {
-                final BlockState sourceState = level.getBlockState(pos.relative(sourceDirection));
-                if (sourceState.getBlock() instanceof AqueductBlock)
-                {
-                    // Validate that the aqueduct is not also expecting this block as a source, and it contains the same fluid.
-                    valid = sourceState.getValue(getFluidProperty()) == sourceFluid && sourceState.getValue(FACING) != sourceDirection.getOpposite();
-                }
-                else if (isValidSource(sourceState) && sourceState.getFluidState().getType().isSame(sourceFluid.getFluid()))
-                {
-                    // Source block is valid
-                    valid = true;
-                }
+                return false;
             }
 
-            // Need to check that the source has not become invalid - otherwise, we just carry on.
-            if (!valid)
+            final BlockState sourceState = level.getBlockState(pos.relative(sourceDirection));
+            if (sourceState.getBlock() instanceof AqueductBlock)
             {
-                // The source has become invalid
-                state = state.setValue(getFluidProperty(), getFluidProperty().keyFor(Fluids.EMPTY));
-
-                // Tick adjacent aqueducts at a short tick delay
-                // We need to do this before setting the block, as the latter operation may cause updateShape() -> scheduleTick()s to occur
-                // Those ticks will be at a long delay, and we want the short tick here to take priority.
-                tickAllAdjacentAqueducts(level, pos, SHORT_TICK_DELAY, sourceDirection);
-
-                level.setBlockAndUpdate(pos, state);
+                // Validate that the aqueduct is not also expecting this block as a source, and it contains the same fluid.
+                return sourceState.getValue(getFluidProperty()) == sourceFluid && sourceState.getValue(FACING) != sourceDirection.getOpposite();
             }
+            return isValidSource(sourceState) && sourceState.getFluidState().getType().isSame(sourceFluid.getFluid());
         }
-        else
+
+        // This aqueduct doesn't currently have a source, so check that none of the open sides could provide one
+        for (final Direction direction : Direction.Plane.HORIZONTAL)
         {
-            // If the aqueduct doesn't currently have a source, and is being ticked, we want to look for one
-            boolean filled = false;
-            for (final Direction direction : Direction.Plane.HORIZONTAL)
+            if (!state.getValue(DirectionPropertyBlock.getProperty(direction)))
             {
-                // Only consider directions where this block is open
-                if (!state.getValue(DirectionPropertyBlock.getProperty(direction)))
-                {
-                    continue;
-                }
+                continue;
+            }
 
-                final BlockPos adjacentPos = pos.relative(direction);
-                final BlockState adjacentState = level.getBlockState(adjacentPos);
-                final Fluid adjacentFluid = adjacentState.getFluidState().getType() instanceof FlowingFluid flow ? flow.getSource() : adjacentState.getFluidState().getType();
-                if (adjacentState.getBlock() instanceof AqueductBlock)
-                {
-                    // Adjacent aqueduct - it must be open, and contain a fluid, and not pointing to this block as a source
-                    if (adjacentState.getValue(DirectionPropertyBlock.getProperty(direction.getOpposite())) && adjacentState.getValue(FACING) != direction.getOpposite() && !(adjacentState.getValue(getFluidProperty()).getFluid() == Fluids.EMPTY))
-                    {
-                        // Then, the first one we find, we can flow into this block
-                        state = state.setValue(FACING, direction)
-                            .setValue(getFluidProperty(), adjacentState.getValue(getFluidProperty()));
-                        filled = true;
-                        break;
-                    }
-                }
-                else if (isValidSource(adjacentState) && getFluidProperty().canContain(adjacentFluid))
+            final BlockState adjacentState = level.getBlockState(pos.relative(direction));
+            if (adjacentState.getBlock() instanceof AqueductBlock)
+            {
+                // Adjacent aqueduct - it must be open, and contain a fluid, and not pointing to this block as a source
+                if (adjacentState.getValue(DirectionPropertyBlock.getProperty(direction.getOpposite())) && adjacentState.getValue(FACING) != direction.getOpposite() && adjacentState.getValue(getFluidProperty()).getFluid() != Fluids.EMPTY)
                 {
-                    // Source blocks can always flow into an open aqueduct
-                    state = state.setValue(FACING, direction)
-                        .setValue(getFluidProperty(), getFluidProperty().keyFor(adjacentFluid));
-                    filled = true;
-                    break;
+                    return false;
                 }
             }
-
-            if (filled)
+            else if (getSourceFluid(adjacentState) != null)
             {
-                // Update this block
-                level.setBlockAndUpdate(pos, state);
-                level.scheduleTick(pos, state.getFluidState().getType(), state.getFluidState().getType().getTickDelay(level));
-
-                // If we managed to fill this aqueduct in this tick, then we want to schedule ticks for all it's neighbors
-                tickAllAdjacentAqueducts(level, pos, LONG_TICK_DELAY, state.getValue(FACING));
+                return false;
             }
         }
+        return true;
     }
 
     @Override
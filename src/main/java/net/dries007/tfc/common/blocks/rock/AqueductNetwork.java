@@ -0,0 +1,203 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.blocks.rock;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraft.world.level.material.Fluids;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.common.blocks.DirectionPropertyBlock;
+import net.dries007.tfc.common.fluids.FluidProperty;
+import net.dries007.tfc.util.Helpers;
+
+/**
+ * Resolves the contents of a connected network of aqueducts in a single pass, rather than having changes ripple through the network one
+ * scheduled tick at a time.
+ * <p>
+ * The network is every aqueduct reachable from the starting aqueduct through open sides. Aqueducts beside a valid fluid source are filled
+ * first, then fluid spreads through the network in breadth first order, so every filled aqueduct faces towards the neighbour it is fed
+ * by, and there are no cycles. Where there is a choice, an aqueduct keeps its current source, to avoid needless block updates. Finally,
+ * all changed aqueducts are written together, only notifying neighbours outside the network.
+ * <p>
+ * Aqueducts next to unloaded positions, or next to the part of a network beyond {@link #MAX_SIZE}, keep their current fluid if they are
+ * fed from that side, as their source can't be checked. Those parts of the network resolve themselves when they are next ticked.
+ */
+final class AqueductNetwork
+{
+    private static final int MAX_SIZE = 4096;
+
+    static void resolve(ServerLevel level, BlockPos origin)
+    {
+        // Collect all aqueducts connected to the origin
+        final Long2ObjectMap<BlockState> network = new Long2ObjectLinkedOpenHashMap<>();
+        final LongArrayList queue = new LongArrayList();
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+        network.put(origin.asLong(), level.getBlockState(origin));
+        queue.add(origin.asLong());
+        for (int i = 0; i < queue.size() && network.size() < MAX_SIZE; i++)
+        {
+            final long pos = queue.getLong(i);
+            final BlockState state = network.get(pos);
+            for (Direction direction : Direction.Plane.HORIZONTAL)
+            {
+                cursor.set(pos).move(direction);
+                final long key = cursor.asLong();
+                if (!network.containsKey(key) && level.isLoaded(cursor))
+                {
+                    final BlockState adjacentState = level.getBlockState(cursor);
+                    if (isConnected(state, adjacentState, direction))
+                    {
+                        network.put(key, adjacentState);
+                        queue.add(key);
+                    }
+                }
+            }
+        }
+
+        // Find all aqueducts which are fed from outside the network
+        final Long2ObjectMap<Fill> fed = new Long2ObjectLinkedOpenHashMap<>();
+        for (Long2ObjectMap.Entry<BlockState> entry : network.long2ObjectEntrySet())
+        {
+            final BlockState state = entry.getValue();
+            final Direction facing = state.getValue(AqueductBlock.FACING);
+            final FluidProperty.FluidKey currentFluid = state.getValue(AqueductBlock.FLUID);
+            @Nullable Fill fill = null;
+            for (Direction direction : Direction.Plane.HORIZONTAL)
+            {
+                if (!state.getValue(DirectionPropertyBlock.getProperty(direction)))
+                {
+                    continue;
+                }
+                cursor.set(entry.getLongKey()).move(direction);
+
+                if (network.containsKey(cursor.asLong()))
+                {
+                    continue; // Handled when spreading through the network
+                }
+
+                final @Nullable BlockState adjacentState = level.isLoaded(cursor) ? level.getBlockState(cursor) : null;
+                @Nullable Fill candidate = null;
+                if (adjacentState == null || isConnected(state, adjacentState, direction))
+                {
+                    // Either unloaded, or an aqueduct that was not collected due to the size limit, so keep the current fluid, if fed from here
+                    if (direction == facing && currentFluid.getFluid() != Fluids.EMPTY)
+                    {
+                        candidate = new Fill(currentFluid, direction);
+                    }
+                }
+                else if (!(adjacentState.getBlock() instanceof AqueductBlock))
+                {
+                    final @Nullable Fluid sourceFluid = AqueductBlock.getSourceFluid(adjacentState);
+                    if (sourceFluid != null)
+                    {
+                        candidate = new Fill(AqueductBlock.FLUID.keyFor(sourceFluid), direction);
+                    }
+                }
+                fill = prefer(state, fill, candidate);
+            }
+            if (fill != null)
+            {
+                fed.put(entry.getLongKey(), fill);
+            }
+        }
+
+        // Spread fluid through the network, one level at a time
+        final Long2ObjectMap<Fill> fills = new Long2ObjectOpenHashMap<>(network.size());
+        Long2ObjectMap<Fill> currentLevel = fed;
+        while (!currentLevel.isEmpty())
+        {
+            fills.putAll(currentLevel);
+
+            final Long2ObjectMap<Fill> nextLevel = new Long2ObjectLinkedOpenHashMap<>();
+            for (Long2ObjectMap.Entry<Fill> entry : currentLevel.long2ObjectEntrySet())
+            {
+                final BlockState state = network.get(entry.getLongKey());
+                for (Direction direction : Direction.Plane.HORIZONTAL)
+                {
+                    cursor.set(entry.getLongKey()).move(direction);
+                    final long key = cursor.asLong();
+                    final @Nullable BlockState adjacentState = network.get(key);
+                    if (adjacentState != null && !fills.containsKey(key) && isConnected(state, adjacentState, direction))
+                    {
+                        final Fill candidate = new Fill(entry.getValue().fluid, direction.getOpposite());
+                        final @Nullable Fill fill = prefer(adjacentState, nextLevel.get(key), candidate);
+                        nextLevel.put(key, fill);
+                    }
+                }
+            }
+            currentLevel = nextLevel;
+        }
+
+        // Apply all changes
+        for (Long2ObjectMap.Entry<BlockState> entry : network.long2ObjectEntrySet())
+        {
+            final BlockState state = entry.getValue();
+            final @Nullable Fill fill = fills.get(entry.getLongKey());
+            final BlockState newState = fill == null
+                ? state.setValue(AqueductBlock.FLUID, AqueductBlock.FLUID.keyFor(Fluids.EMPTY))
+                : state.setValue(AqueductBlock.FLUID, fill.fluid).setValue(AqueductBlock.FACING, fill.facing);
+            if (newState != state)
+            {
+                // Skip shape updates between aqueducts in the network, as they would only schedule ticks to re-check what was just resolved
+                final BlockPos pos = BlockPos.of(entry.getLongKey());
+                level.setBlock(pos, newState, Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE);
+                if (fill != null && state.getValue(AqueductBlock.FLUID) != fill.fluid)
+                {
+                    level.scheduleTick(pos, newState.getFluidState().getType(), newState.getFluidState().getType().getTickDelay(level));
+                }
+                for (Direction direction : Helpers.DIRECTIONS)
+                {
+                    cursor.setWithOffset(pos, direction);
+                    if (!network.containsKey(cursor.asLong()))
+                    {
+                        level.neighborShapeChanged(direction.getOpposite(), newState, cursor, pos, Block.UPDATE_ALL, 512);
+                        level.neighborChanged(cursor, newState.getBlock(), pos);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if both aqueducts are open towards each other, so fluid may flow between them.
+     */
+    private static boolean isConnected(BlockState state, BlockState adjacentState, Direction direction)
+    {
+        return adjacentState.getBlock() instanceof AqueductBlock
+            && state.getValue(DirectionPropertyBlock.getProperty(direction))
+            && adjacentState.getValue(DirectionPropertyBlock.getProperty(direction.getOpposite()));
+    }
+
+    /**
+     * Picks between two ways of filling an aqueduct, preferring the one it is already filled from, and otherwise the first one found.
+     */
+    @Nullable
+    private static Fill prefer(BlockState state, @Nullable Fill existing, @Nullable Fill candidate)
+    {
+        if (existing == null)
+        {
+            return candidate;
+        }
+        if (candidate != null && candidate.facing == state.getValue(AqueductBlock.FACING) && candidate.fluid == state.getValue(AqueductBlock.FLUID))
+        {
+            return candidate;
+        }
+        return existing;
+    }
+
+    record Fill(FluidProperty.FluidKey fluid, Direction facing) {}
+}
@@ -7,6 +7,11 @@
 package net.dries007.tfc.common.blocks.wood;
 
 import java.util.function.Supplier;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.particles.BlockParticleOption;
@@ -201,31 +206,154 @@ public class TFCLeavesBlock extends Block implements ILeavesBlock, IForgeBlockEx
     protected void tick(BlockState state, ServerLevel level, BlockPos pos, RandomSource rand)
     {
         final int oldDistance = state.getValue(DISTANCE);
-        int distance = updateDistance(level, pos);
-        if (distance > MAX_DECAY_DISTANCE)
+        final int distance = updateDistance(level, pos);
+        if (distance != oldDistance && !(distance > MAX_DECAY_DISTANCE && oldDistance == MAX_DECAY_DISTANCE && state.getValue(PERSISTENT)))
         {
-            if (!state.getValue(PERSISTENT))
+            updateDistances(level, pos, rand);
+        }
+    }
+
+    /**
+     * Recomputes the distance of every leaf of this block within {@link #MAX_DECAY_DISTANCE} steps of {@code origin} in a single multi-source
+     * breadth first search, and then writes all changed leaves at once. Only a change to a log, or to a leaf, within that range can change
+     * the distance of {@code origin}, so when a tree is felled, the first leaf to tick resolves most of the canopy, and the rest find their
+     * distance already correct. Changed leaves are written without shape updates to other leaves in the region, as those are already solved,
+     * but neighbours outside the region are updated as usual, so any leaves beyond it which depended on them re-check their own distance.
+     * <p>
+     * Leaves at the edge of the region use the distance of their neighbours outside it, and positions which are not loaded are treated as
+     * supporting, so that leaves are never decayed based on unloaded chunks. If those neighbours are stale, they are re-checked once updated,
+     * which in turn corrects the edge.
+     */
+    private void updateDistances(ServerLevel level, BlockPos origin, RandomSource rand)
+    {
+        // Collect all leaves of this block which are connected to the origin, within the maximum distance
+        final Long2ObjectMap<BlockState> states = new Long2ObjectOpenHashMap<>();
+        final LongArrayList region = new LongArrayList();
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+        states.put(origin.asLong(), level.getBlockState(origin));
+        region.add(origin.asLong());
+        int depthEnd = 1, depth = 0;
+        for (int i = 0; i < region.size(); i++)
+        {
+            if (i == depthEnd)
             {
-                if (!TFCConfig.SERVER.enableLeavesDecaySlowly.get())
+                // Finished expanding all leaves at the current depth
+                depthEnd = region.size();
+                if (++depth == MAX_DECAY_DISTANCE)
                 {
-                    level.removeBlock(pos, false);
-                    if (rand.nextFloat() < 0.01f) createDestructionEffects(state, level, pos, rand, false);
-                    doParticles(level, pos.getX() + rand.nextFloat(), pos.getY() + rand.nextFloat(), pos.getZ() + rand.nextFloat(), 1);
+                    break;
                 }
-                else
+            }
+            final long pos = region.getLong(i);
+            for (Direction direction : Helpers.DIRECTIONS)
+            {
+                cursor.set(pos).move(direction);
+                final long key = cursor.asLong();
+                if (!states.containsKey(key) && level.isLoaded(cursor))
                 {
-                    // max + 1 means it must decay next random tick
-                    level.setBlockAndUpdate(pos, state.setValue(DISTANCE, MAX_DECAY_DISTANCE + 1));
+                    final BlockState neighborState = level.getBlockState(cursor);
+                    if (neighborState.getBlock() == this)
+                    {
+                        states.put(key, neighborState);
+                        region.add(key);
+                    }
                 }
             }
-            else
+        }
+
+        // Seed each leaf from its neighbours outside the region, which are fixed: logs, leaves at the edge, or unloaded positions
+        final Long2IntMap distances = new Long2IntOpenHashMap(region.size());
+        final LongArrayList[] buckets = new LongArrayList[MAX_DECAY_DISTANCE + 1];
+        for (int i = 0; i < buckets.length; i++)
+        {
+            buckets[i] = new LongArrayList();
+        }
+        for (int i = 0; i < region.size(); i++)
+        {
+            final long pos = region.getLong(i);
+            int distance = 1 + MAX_DECAY_DISTANCE;
+            for (Direction direction : Helpers.DIRECTIONS)
             {
-                level.setBlock(pos, state.setValue(DISTANCE, MAX_DECAY_DISTANCE), 3);
+                cursor.set(pos).move(direction);
+                if (!states.containsKey(cursor.asLong()))
+                {
+                    distance = Math.min(distance, level.isLoaded(cursor) ? getDistance(level.getBlockState(cursor)) + 1 : 1);
+                }
+            }
+            distances.put(pos, distance);
+            if (distance <= MAX_DECAY_DISTANCE)
+            {
+                buckets[distance].add(pos);
             }
         }
-        else if (distance != oldDistance)
+
+        // Then propagate within the region, in order of increasing distance
+        for (int distance = 1; distance < MAX_DECAY_DISTANCE; distance++)
         {
-            level.setBlock(pos, state.setValue(DISTANCE, distance), 3);
+            final LongArrayList bucket = buckets[distance];
+            for (int i = 0; i < bucket.size(); i++)
+            {
+                final long pos = bucket.getLong(i);
+                if (distances.get(pos) != distance)
+                {
+                    continue; // Already reached at a lower distance
+                }
+                for (Direction direction : Helpers.DIRECTIONS)
+                {
+                    final long key = BlockPos.offset(pos, direction);
+                    if (states.containsKey(key) && distances.get(key) > distance + 1)
+                    {
+                        distances.put(key, distance + 1);
+                        buckets[distance + 1].add(key);
+                    }
+                }
+            }
+        }
+
+        // Finally, write all leaves that changed
+        final boolean decaySlowly = TFCConfig.SERVER.enableLeavesDecaySlowly.get();
+        for (int i = 0; i < region.size(); i++)
+        {
+            final long key = region.getLong(i);
+            final BlockPos pos = BlockPos.of(key);
+            final BlockState state = states.get(key);
+            final int oldDistance = state.getValue(DISTANCE);
+            int distance = distances.get(key);
+
+            if (distance > MAX_DECAY_DISTANCE)
+            {
+                if (!state.getValue(PERSISTENT))
+                {
+                    if (!decaySlowly)
+                    {
+                        level.removeBlock(pos, false);
+                        if (rand.nextFloat() < 0.01f) createDestructionEffects(state, level, pos, rand, false);
+                        doParticles(level, pos.getX() + rand.nextFloat(), pos.getY() + rand.nextFloat(), pos.getZ() + rand.nextFloat(), 1);
+                        continue;
+                    }
+                    // max + 1 means it must decay next random tick
+                }
+                else
+                {
+                    distance = MAX_DECAY_DISTANCE;
+                }
+            }
+            if (distance != oldDistance)
+            {
+                // Skip shape updates between leaves in the region, as they would only schedule ticks to re-check what was just solved
+                final BlockState newState = state.setValue(DISTANCE, distance);
+                level.setBlock(pos, newState, Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE);
+                for (Direction direction : Helpers.DIRECTIONS)
+                {
+                    cursor.setWithOffset(pos, direction);
+                    if (!states.containsKey(cursor.asLong()))
+                    {
+                        level.neighborShapeChanged(direction.getOpposite(), newState, cursor, pos, Block.UPDATE_ALL, 512);
+                        level.neighborChanged(cursor, this, pos);
+                    }
+                }
+            }
         }
     }
 
@@ -11,7 +11,6 @@ import java.util.function.Consumer;
 import net.minecraft.core.Holder;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.network.chat.Component;
-import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.RecipeHolder;
 import net.minecraft.world.item.crafting.RecipeManager;
@@ -19,18 +18,17 @@ import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.common.component.TFCComponents;
-import net.dries007.tfc.common.recipes.RecipeHelpers;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.calendar.ICalendar;
-import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.collections.ItemDefinitionCache;
 import net.dries007.tfc.util.data.DataManager;
 
 public final class FoodCapability
 {
     public static final DataManager<FoodDefinition> MANAGER = new DataManager<>(Helpers.identifier("food"), FoodDefinition.CODEC, FoodDefinition.STREAM_CODEC);
-    public static final IndirectHashCollection<Item, FoodDefinition> CACHE = IndirectHashCollection.create(r -> RecipeHelpers.itemKeys(r.ingredient()), MANAGER::getValues);
+    public static final ItemDefinitionCache<FoodDefinition> CACHE = ItemDefinitionCache.create(FoodDefinition::ingredient, MANAGER::getValues);
 
     /**
      * @return An immutable view of the food component on an item stack.
@@ -49,7 +47,7 @@ public final class FoodCapability
     @Nullable
     public static FoodDefinition getDefinition(ItemStack stack)
     {
-        return RecipeHelpers.getRecipe(CACHE, stack, stack.getItem());
+        return CACHE.get(stack);
     }
 
     public static void setFoodForDynamicItemOnCreate(ItemStack stack, FoodData data)
@@ -10,7 +10,6 @@ import java.util.Iterator;
 import java.util.Objects;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
-import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.neoforged.neoforge.items.IItemHandlerModifiable;
@@ -19,17 +18,16 @@ import org.jetbrains.annotations.Nullable;
 import net.dries007.tfc.common.capabilities.BlockCapabilities;
 import net.dries007.tfc.common.capabilities.ItemCapabilities;
 import net.dries007.tfc.common.component.TFCComponents;
-import net.dries007.tfc.common.recipes.RecipeHelpers;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.Helpers;
-import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.collections.ItemDefinitionCache;
 import net.dries007.tfc.util.data.DataManager;
 import net.dries007.tfc.util.data.Fuel;
 
 public final class HeatCapability
 {
     public static final DataManager<HeatDefinition> MANAGER = new DataManager<>(Helpers.identifier("item_heat"), HeatDefinition.CODEC, HeatDefinition.STREAM_CODEC);
-    public static final IndirectHashCollection<Item, HeatDefinition> CACHE = IndirectHashCollection.create(r -> RecipeHelpers.itemKeys(r.ingredient()), MANAGER::getValues);
+    public static final ItemDefinitionCache<HeatDefinition> CACHE = ItemDefinitionCache.create(HeatDefinition::ingredient, MANAGER::getValues);
 
     public static final float POTTERY_HEAT_CAPACITY = 1.2f;
 
@@ -117,7 +115,7 @@ public final class HeatCapability
     @Nullable
     public static HeatDefinition getDefinition(ItemStack stack)
     {
-        return RecipeHelpers.getRecipe(CACHE, stack, stack.getItem());
+        return CACHE.get(stack);
     }
 
     public static float adjustTempTowards(float temp, float target)
@@ -223,11 +221,20 @@ public final class HeatCapability
      * @param modifier the modifier for how much this will heat up: 0 - 1 slows down cooling, 1 = no heating or cooling, > 1 heats, 2 heats at the same rate of normal cooling, 2+ heats faster
      */
     public static void addTemp(IHeat instance, float targetTemperature, float modifier)
+    {
+        addTemp(instance, targetTemperature, modifier, 1);
+    }
+
+    /**
+     * Increases the heat on an IItemHeat instance, by the amount it would be heated over {@code ticks} ticks. As the heating is linear
+     * up to the target temperature, this is identical to calling {@link #addTemp(IHeat, float, float)} once per tick.
+     */
+    public static void addTemp(IHeat instance, float targetTemperature, float modifier, long ticks)
     {
         modifier = TFCConfig.SERVER.itemCoolingModifier.get().floatValue() - 1 + modifier * TFCConfig.SERVER.itemHeatingModifier.get().floatValue();
 
         final float initialTemperature = instance.getTemperature();
-        float newTemperature = initialTemperature + modifier / instance.getHeatCapacity();
+        float newTemperature = initialTemperature + modifier * ticks / instance.getHeatCapacity();
         if (newTemperature > targetTemperature)
         {
             newTemperature = targetTemperature;
@@ -242,6 +249,7 @@ public final class HeatCapability
      * Common logic for block entities to consume fuel during larger time skips.
      *
      * @param ticks           Ticks since the last calendar update. This is decremented as the method checks different fuel consumption options.
+     * @param temperature     Current temperature of the device
      * @param inventory       Inventory to be modified (this should contain the fuel)
      * @param burnTicks       Remaining burn ticks of the fuel being burned
      * @param burnTemperature Current burning temperature of the TE (this is the fuel's target temperature)
@@ -249,29 +257,34 @@ public final class HeatCapability
      * @param slotEnd         Index of the last fuel slot
      * @return The remainder after consuming fuel, along with an amount (possibly > 0) of ticks that haven't been accounted for.
      */
-    public static Remainder consumeFuelForTicks(long ticks, IItemHandlerModifiable inventory, int burnTicks, float burnTemperature, int slotStart, int slotEnd)
+    public static Remainder consumeFuelForTicks(long ticks, float temperature, IItemHandlerModifiable inventory, int burnTicks, float burnTemperature, int slotStart, int slotEnd)
     {
-        return consumeFuelForTicks(ticks, burnTicks, burnTemperature, Helpers.iterate(inventory, slotStart, 1 + slotEnd));
+        return consumeFuelForTicks(ticks, temperature, burnTicks, burnTemperature, Helpers.iterate(inventory, slotStart, 1 + slotEnd));
     }
 
     /**
      * Common logic for block entities to consume fuel during larger time skips.
+     * <p>
+     * The temperature of the device is advanced in closed form over each fuel item, rather than once per tick, as if it was heated without any
+     * air or rain. If all fuel is consumed, the temperature is also advanced towards zero for the remaining ticks.
      *
      * @param ticks           Ticks since the last calendar update. This is decremented as the method checks different fuel consumption options.
+     * @param temperature     Current temperature of the device
      * @param burnTicks       Remaining burn ticks of the fuel being burned
      * @param burnTemperature Current burning temperature of the TE (this is the fuel's target temperature)
      * @param fuelStacks      An iterator of fuel stacks which supports removal (to indicate fuel is consumed).
      * @return The remainder after consuming fuel, along with an amount (possibly > 0) of ticks that haven't been accounted for.
      */
-    public static Remainder consumeFuelForTicks(long ticks, int burnTicks, float burnTemperature, Iterable<ItemStack> fuelStacks)
+    public static Remainder consumeFuelForTicks(long ticks, float temperature, int burnTicks, float burnTemperature, Iterable<ItemStack> fuelStacks)
     {
         if (burnTicks > ticks)
         {
             burnTicks -= ticks;
-            return new Remainder(burnTicks, burnTemperature, 0L);
+            return new Remainder(burnTicks, burnTemperature, adjustTempTowards(temperature, burnTemperature, ticks), 0L);
         }
         else
         {
+            temperature = adjustTempTowards(temperature, burnTemperature, burnTicks);
             ticks -= burnTicks;
             burnTicks = 0;
         }
@@ -288,15 +301,16 @@ public final class HeatCapability
                 {
                     burnTicks = (int) (fuel.duration() - ticks);
                     burnTemperature = fuel.temperature();
-                    return new Remainder(burnTicks, burnTemperature, 0L);
+                    return new Remainder(burnTicks, burnTemperature, adjustTempTowards(temperature, burnTemperature, ticks), 0L);
                 }
                 else
                 {
+                    temperature = adjustTempTowards(temperature, fuel.temperature(), fuel.duration());
                     ticks -= fuel.duration();
                 }
             }
         }
-        return new Remainder(burnTicks, burnTemperature, ticks);
+        return new Remainder(burnTicks, burnTemperature, adjustTempTowards(temperature, 0, ticks), ticks);
     }
 
     public static void provideHeatTo(Level level, BlockPos pos, Direction to, float temperature)
@@ -308,5 +322,8 @@ public final class HeatCapability
         }
     }
 
-    public record Remainder(int burnTicks, float burnTemperature, long ticks) {}
+    /**
+     * @param temperature The temperature of the device after all {@code ticks} have passed, including any unaccounted for ticks.
+     */
+    public record Remainder(int burnTicks, float burnTemperature, float temperature, long ticks) {}
 }
\ No newline at end of file
@@ -7,6 +7,8 @@
 package net.dries007.tfc.common.component.size;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.AnimalArmorItem;
@@ -16,6 +18,7 @@ import net.minecraft.world.item.BucketItem;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.TieredItem;
+import net.minecraft.world.item.crafting.RecipeManager;
 
 import net.dries007.tfc.common.recipes.RecipeHelpers;
 import net.dries007.tfc.util.Helpers;
@@ -27,6 +30,11 @@ public final class ItemSizeManager
     public static final DataManager<ItemSizeDefinition> MANAGER = new DataManager<>(Helpers.identifier("item_size"), ItemSizeDefinition.CODEC, ItemSizeDefinition.STREAM_CODEC);
     public static final IndirectHashCollection<Item, ItemSizeDefinition> CACHE = IndirectHashCollection.create(r -> RecipeHelpers.itemKeys(r.ingredient()), MANAGER::getValues);
 
+    /**
+     * Whether each item is huge and very heavy, which is checked for every slot of every player's inventory, periodically. Computed on
+     * first query, and cleared whenever definitions are reloaded.
+     */
+    private static final Map<Item, Heaviness> HEAVINESS = IndirectHashCollection.create(new HeavinessCache(new ConcurrentHashMap<>())).heaviness();
 
     private static final ItemSizeDefinition TOOL_SIZE = new ItemSizeDefinition(Size.LARGE, Weight.MEDIUM); // Stored only in chests, stack size should be limited to 1 since it is a tool
     private static final ItemSizeDefinition ARMOR_SIZE = new ItemSizeDefinition(Size.LARGE, Weight.VERY_HEAVY); // Stored only in chests and stack size = 1
@@ -62,6 +70,37 @@ public final class ItemSizeManager
         return getDefinition(stack);
     }
 
+    /**
+     * @return {@code true} if the stack is {@link Size#HUGE} and {@link Weight#VERY_HEAVY}, which exhausts or overburdens whoever is carrying it.
+     */
+    public static boolean isHugeAndVeryHeavy(ItemStack stack)
+    {
+        return switch (HEAVINESS.computeIfAbsent(stack.getItem(), ItemSizeManager::computeHeaviness))
+        {
+            case ALWAYS -> true;
+            case NEVER -> false;
+            case DEPENDS_ON_STACK -> isHugeAndVeryHeavy(get(stack), stack);
+        };
+    }
+
+    private static boolean isHugeAndVeryHeavy(IItemSize size, ItemStack stack)
+    {
+        return size.getWeight(stack) == Weight.VERY_HEAVY && size.getSize(stack) == Size.HUGE;
+    }
+
+    private static Heaviness computeHeaviness(Item item)
+    {
+        // Items which define their own size, or definitions which test more than the item, may depend on the contents of the stack
+        if (item instanceof IItemSize
+            || (item instanceof BlockItem block && block.getBlock() instanceof IItemSize)
+            || !CACHE.getAll(item).stream().allMatch(def -> def.ingredient().isSimple()))
+        {
+            return Heaviness.DEPENDS_ON_STACK;
+        }
+        final ItemStack stack = new ItemStack(item);
+        return isHugeAndVeryHeavy(getDefinition(stack), stack) ? Heaviness.ALWAYS : Heaviness.NEVER;
+    }
+
     public static ItemSizeDefinition getDefinition(ItemStack stack)
     {
         // Definitions
@@ -92,4 +131,12 @@ public final class ItemSizeManager
             return DEFAULT_SIZE;
         }
     }
-}
+
+    enum Heaviness { ALWAYS, NEVER, DEPENDS_ON_STACK }
+
+    record HeavinessCache(Map<Item, Heaviness> heaviness) implements IndirectHashCollection.Cache
+    {
+        @Override public void clear() { heaviness.clear(); }
+        @Override public void reload(RecipeManager manager) { heaviness.clear(); }
+    }
+}
\ No newline at end of file
@@ -34,6 +34,7 @@ import net.minecraft.world.item.ItemUtils;
 import net.minecraft.world.item.MobBucketItem;
 import net.neoforged.neoforge.fluids.FluidStack;
 
+import net.dries007.tfc.common.entities.ai.EntityQueryCache;
 import net.dries007.tfc.common.entities.ai.TFCAvoidEntityGoal;
 import net.dries007.tfc.common.entities.livestock.Gender;
 import net.dries007.tfc.common.entities.livestock.TFCAnimalProperties;
@@ -145,7 +146,7 @@ public final class EntityHelpers
      */
     public static <T extends Animal & TFCAnimalProperties> void findFemaleMate(T maleAnimal)
     {
-        List<? extends Animal> list = maleAnimal.level().getEntitiesOfClass(Animal.class, maleAnimal.getBoundingBox().inflate(8.0D));
+        List<? extends Animal> list = EntityQueryCache.get(maleAnimal.level()).getEntitiesOfClass(EntityQueryCache.Source.FIND_MATE, Animal.class, maleAnimal.getBoundingBox().inflate(8.0D), Animal::isAlive);
         for (Animal femaleAnimal : list)
         {
             if (femaleAnimal instanceof TFCAnimalProperties femaleData && femaleData.isFemale() && !femaleAnimal.isInLove() && femaleData.isReadyToMate() && femaleData.checkExtraBreedConditions(maleAnimal))
@@ -0,0 +1,228 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.entities.ai;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+
+import net.dries007.tfc.util.tracker.WorldTracker;
+
+/**
+ * A per-level, per-tick spatial grid of living entities, shared by TFC sensors and goals which need to scan their neighbourhood. Herds and
+ * packs tend to query overlapping areas, so rather than each entity running a full {@link Level#getEntitiesOfClass} over its own box, the
+ * grid is built once per level tick from a single pass over all entities in the level. Only {@link LivingEntity}s are added to the grid, as
+ * that is all any caller asks for. The first few queries of each tick go directly to the level, as building the grid is only worth it once
+ * there are enough queries to share it. Every query after that is answered from the grid, without touching the level's entity storage.
+ * <p>
+ * Each entity belongs to the single cell containing its position when the grid was built, and queries check a margin of {@link #MARGIN}
+ * blocks around the requested box. Entities whose bounding box extends further than that from their position, i.e. those wider than
+ * {@code 2 * MARGIN} or taller than {@code MARGIN}, can be missed by a query whose box only touches their edge. Entities added later in the
+ * same tick are not seen until the next tick, and results may include entities that were removed earlier in the same tick, so callers
+ * should check {@link Entity#isAlive()} where it matters.
+ * <p>
+ * This is only used on the logical server. On the client, queries fall back to {@link Level#getEntitiesOfClass}.
+ */
+public final class EntityQueryCache
+{
+    public static EntityQueryCache get(Level level)
+    {
+        return WorldTracker.get(level).getEntityQueryCache();
+    }
+
+    private static final int CELL_BITS = 5; // 32 block cells
+    private static final double MARGIN = 3.5; // Half the width of the largest entities we care about, plus movement within a tick
+    private static final int DIRECT_QUERIES = 8; // Queries per tick answered directly by the level, before building the grid
+
+    private final Level level;
+    private final Long2ObjectMap<List<LivingEntity>> cells = new Long2ObjectOpenHashMap<>();
+    private final Map<Source, Metrics> metrics = new EnumMap<>(Source.class);
+    private final Metrics buildMetrics = new Metrics();
+    private long lastTick = Long.MIN_VALUE;
+    private int queries; // Queries made in the current tick
+    private boolean built; // If the grid has been built for the current tick
+
+    public EntityQueryCache(Level level)
+    {
+        this.level = level;
+        for (Source source : Source.values())
+        {
+            metrics.put(source, new Metrics());
+        }
+    }
+
+    /**
+     * Equivalent to {@link Level#getEntitiesOfClass(Class, AABB, Predicate)}, but answered from the grid built for this tick, once there
+     * have been enough queries in this tick.
+     *
+     * @param source The caller, used for metrics.
+     */
+    public <T extends LivingEntity> List<T> getEntitiesOfClass(Source source, Class<T> clazz, AABB box, Predicate<? super T> filter)
+    {
+        if (!(level instanceof ServerLevel serverLevel))
+        {
+            return level.getEntitiesOfClass(clazz, box, filter);
+        }
+
+        final long startTime = System.nanoTime();
+        final long tick = level.getGameTime();
+        if (tick != lastTick)
+        {
+            lastTick = tick;
+            queries = 0;
+            built = false;
+        }
+        if (!built && ++queries <= DIRECT_QUERIES)
+        {
+            final List<T> found = level.getEntitiesOfClass(clazz, box, filter);
+            metrics.get(source).record(System.nanoTime() - startTime);
+            return found;
+        }
+        if (!built)
+        {
+            build(serverLevel);
+            built = true;
+        }
+
+        final List<T> found = new ArrayList<>();
+        final int minX = cell(box.minX - MARGIN), maxX = cell(box.maxX + MARGIN);
+        final int minY = cell(box.minY - MARGIN), maxY = cell(box.maxY + MARGIN);
+        final int minZ = cell(box.minZ - MARGIN), maxZ = cell(box.maxZ + MARGIN);
+        for (int x = minX; x <= maxX; x++)
+        {
+            for (int y = minY; y <= maxY; y++)
+            {
+                for (int z = minZ; z <= maxZ; z++)
+                {
+                    final List<LivingEntity> entities = cells.get(BlockPos.asLong(x, y, z));
+                    if (entities != null)
+                    {
+                        for (LivingEntity entity : entities)
+                        {
+                            if (clazz.isInstance(entity))
+                            {
+                                final T typedEntity = clazz.cast(entity);
+                                if (entity.getBoundingBox().intersects(box) && filter.test(typedEntity))
+                                {
+                                    found.add(typedEntity);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        metrics.get(source).record(System.nanoTime() - startTime);
+        return found;
+    }
+
+    /**
+     * Called every tick, updates the metrics once per second.
+     */
+    public void tick()
+    {
+        if (level.getGameTime() % 20 == 0)
+        {
+            metrics.values().forEach(Metrics::snapshot);
+            buildMetrics.snapshot();
+        }
+    }
+
+    /**
+     * @return A line of debug information describing the queries made in the last second, for each source, and the grid builds.
+     */
+    public String getDebugInfo()
+    {
+        final StringBuilder builder = new StringBuilder("Entity Queries:");
+        metrics.forEach((source, metric) -> metric.appendDebugInfo(builder, source.name().toLowerCase(Locale.ROOT)));
+        buildMetrics.appendDebugInfo(builder, "grid");
+        return builder.toString();
+    }
+
+    private void build(ServerLevel level)
+    {
+        final long startTime = System.nanoTime();
+
+        // Reuse the lists of cells that were occupied when last built, and drop the rest, so cells only live as long as they have entities
+        final ObjectIterator<List<LivingEntity>> iterator = cells.values().iterator();
+        while (iterator.hasNext())
+        {
+            final List<LivingEntity> entities = iterator.next();
+            if (entities.isEmpty())
+            {
+                iterator.remove();
+            }
+            else
+            {
+                entities.clear();
+            }
+        }
+
+        for (Entity entity : level.getAllEntities())
+        {
+            if (entity instanceof LivingEntity livingEntity)
+            {
+                cells.computeIfAbsent(BlockPos.asLong(cell(entity.getX()), cell(entity.getY()), cell(entity.getZ())), key -> new ArrayList<>()).add(livingEntity);
+            }
+        }
+        buildMetrics.record(System.nanoTime() - startTime);
+    }
+
+    private int cell(double value)
+    {
+        return Mth.floor(value) >> CELL_BITS;
+    }
+
+    public enum Source
+    {
+        PACK_LEADER,
+        AVOID_ENTITY,
+        FIND_MATE
+    }
+
+    static final class Metrics
+    {
+        private int count;
+        private long nanos;
+
+        private int lastCount;
+        private long lastNanos;
+
+        void record(long nanos)
+        {
+            this.count++;
+            this.nanos += nanos;
+        }
+
+        void snapshot()
+        {
+            lastCount = count;
+            lastNanos = nanos;
+            count = 0;
+            nanos = 0;
+        }
+
+        void appendDebugInfo(StringBuilder builder, String name)
+        {
+            builder.append(" %s: %d (%.1f us)".formatted(name, lastCount, lastCount == 0 ? 0f : lastNanos / (1000f * lastCount)));
+        }
+    }
+}
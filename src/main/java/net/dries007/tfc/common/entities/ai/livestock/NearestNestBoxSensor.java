@@ -6,35 +6,28 @@
 
 package net.dries007.tfc.common.entities.ai.livestock;
 
+import java.util.List;
 import java.util.Set;
-import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 import com.google.common.collect.ImmutableSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.ai.memory.MemoryModuleType;
 import net.minecraft.world.entity.ai.sensing.Sensor;
-import net.minecraft.world.entity.ai.village.poi.PoiManager;
 import net.minecraft.world.level.pathfinder.Path;
 
-import it.unimi.dsi.fastutil.longs.Long2LongMap;
-import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
-
 import net.dries007.tfc.common.entities.ai.TFCBrain;
 import net.dries007.tfc.common.entities.livestock.OviparousAnimal;
 
 /**
- * Reimplements {@link net.minecraft.world.entity.ai.sensing.NearestBedSensor}
+ * Reimplements {@link net.minecraft.world.entity.ai.sensing.NearestBedSensor}, but queries the shared {@link NestBoxIndex} for free nest boxes,
+ * and shares the results of path searches between animals in the same chunk section.
  */
 public class NearestNestBoxSensor extends Sensor<OviparousAnimal>
 {
     private static final int CACHE_TIMEOUT = 40;
     private static final int BATCH_SIZE = 5;
-
-    private int triedCount;
-    private long lastUpdate;
-    private final Long2LongMap batchCache = new Long2LongOpenHashMap(); // position to time
+    private static final int SEARCH_RADIUS = 48;
 
     @Override
     protected void doTick(ServerLevel level, OviparousAnimal animal)
@@ -42,35 +35,55 @@ public class NearestNestBoxSensor extends Sensor<OviparousAnimal>
         // we only need to do this if we are gonna make an egg and not sitting already
         if (animal.isReadyForAnimalProduct() && !animal.isPassenger())
         {
-            triedCount = 0;
-            lastUpdate = level.getGameTime() + level.getRandom().nextInt(20);
-            PoiManager manager = level.getPoiManager();
-            Predicate<BlockPos> predicate = pos -> {
-                final long packed = pos.asLong();
-                if (batchCache.containsKey(packed))
-                {
-                    return false;
-                }
-                else if (++triedCount >= BATCH_SIZE)
-                {
-                    return false;
-                }
-                else
+            final NestBoxIndex index = NestBoxIndex.get(level);
+            final BlockPos origin = animal.blockPosition();
+            final long gameTime = level.getGameTime();
+            final NestBoxIndex.Reachability cached = index.getReachability(origin);
+
+            int skip = 0;
+            if (cached != null)
+            {
+                final BlockPos target = cached.target();
+                if (cached.expiry() >= gameTime)
                 {
-                    batchCache.putIfAbsent(packed, lastUpdate + CACHE_TIMEOUT);
-                    return true;
+                    if (target == null)
+                    {
+                        return; // Another animal nearby recently searched and found nothing reachable
+                    }
+                    if (index.isFree(target))
+                    {
+                        animal.getBrain().setMemory(TFCBrain.NEST_BOX_MEMORY.get(), target);
+                        return;
+                    }
                 }
-            };
-            Stream<BlockPos> found = manager.findAll(p -> p.value() == TFCBrain.NEST_BOX_POI.get(), predicate, animal.blockPosition(), 48, PoiManager.Occupancy.ANY);
-            Path path = animal.getNavigation().createPath(found, TFCBrain.NEST_BOX_POI.get().validRange());
+                skip = cached.skip(); // Either expired, or the found target is no longer free, so search again
+            }
+
+            List<BlockPos> found = index.findNearestFree(origin, SEARCH_RADIUS, skip, BATCH_SIZE);
+            if (found.isEmpty() && skip > 0)
+            {
+                // Wrap around to the nearest boxes, as we've run out of new ones to try
+                skip = 0;
+                found = index.findNearestFree(origin, SEARCH_RADIUS, 0, BATCH_SIZE);
+            }
+            if (found.isEmpty())
+            {
+                index.setReachability(origin, new NestBoxIndex.Reachability(null, 0, gameTime + CACHE_TIMEOUT));
+                return;
+            }
+
+            final Path path = animal.getNavigation().createPath(found.stream(), TFCBrain.NEST_BOX_POI.get().validRange());
+            final long expiry = gameTime + CACHE_TIMEOUT + level.getRandom().nextInt(20);
             if (path != null && path.canReach())
             {
-                BlockPos target = path.getTarget();
-                manager.getType(target).ifPresent(poi -> animal.getBrain().setMemory(TFCBrain.NEST_BOX_MEMORY.get(), target));
+                final BlockPos target = path.getTarget();
+                index.setReachability(origin, new NestBoxIndex.Reachability(target, 0, expiry));
+                animal.getBrain().setMemory(TFCBrain.NEST_BOX_MEMORY.get(), target);
             }
-            else if (triedCount < BATCH_SIZE)
+            else
             {
-                batchCache.long2LongEntrySet().removeIf(set -> set.getLongValue() < lastUpdate);
+                // Try the next batch of nest boxes on the next search from this area
+                index.setReachability(origin, new NestBoxIndex.Reachability(null, skip + BATCH_SIZE, expiry));
             }
         }
     }
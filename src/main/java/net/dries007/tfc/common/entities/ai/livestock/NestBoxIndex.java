@@ -0,0 +1,157 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.entities.ai.livestock;
+
+import java.util.ArrayList;
+import java.util.List;
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.common.blockentities.NestBoxBlockEntity;
+import net.dries007.tfc.util.tracker.WorldTracker;
+
+/**
+ * An index of all loaded nest boxes in a single world, shared by all {@link net.dries007.tfc.common.entities.livestock.OviparousAnimal}s via the
+ * {@link NearestNestBoxSensor}. Nest boxes register themselves on load, and update their availability when their inventory changes, or when
+ * an animal starts or stops sitting in them. This replaces a per-animal search of the {@link net.minecraft.world.entity.ai.village.poi.PoiManager}.
+ * Nest boxes are bucketed by chunk, so a search only visits the chunks within its radius.
+ * <p>
+ * In addition, the result of the last path search is cached per chunk section, so animals in the same area share the results of pathfinding.
+ * <p>
+ * This is only maintained on the logical server.
+ */
+public final class NestBoxIndex
+{
+    public static NestBoxIndex get(Level level)
+    {
+        return WorldTracker.get(level).getNestBoxIndex();
+    }
+
+    private static final byte FULL = 1;
+    private static final byte OCCUPIED = 2;
+    private static final int EXPIRED_TIMEOUT = 200;
+
+    private final Long2ObjectMap<Long2ByteMap> nestBoxes = new Long2ObjectOpenHashMap<>(); // chunk -> position -> flags
+    private final Long2ObjectMap<Reachability> reachability = new Long2ObjectOpenHashMap<>(); // section -> last result
+
+    public void add(NestBoxBlockEntity nest)
+    {
+        update(nest.getBlockPos(), nest.isFull(), nest.isOccupied());
+    }
+
+    public void update(BlockPos pos, boolean full, boolean occupied)
+    {
+        nestBoxes.computeIfAbsent(ChunkPos.asLong(pos), key -> new Long2ByteOpenHashMap())
+            .put(pos.asLong(), (byte) ((full ? FULL : 0) | (occupied ? OCCUPIED : 0)));
+    }
+
+    public void remove(BlockPos pos)
+    {
+        final long chunk = ChunkPos.asLong(pos);
+        final Long2ByteMap inChunk = nestBoxes.get(chunk);
+        if (inChunk != null)
+        {
+            inChunk.remove(pos.asLong());
+            if (inChunk.isEmpty())
+            {
+                nestBoxes.remove(chunk);
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if the nest box at {@code pos} is loaded, and has room for an egg and no current sitter.
+     */
+    public boolean isFree(BlockPos pos)
+    {
+        final Long2ByteMap inChunk = nestBoxes.get(ChunkPos.asLong(pos));
+        return inChunk != null && inChunk.getOrDefault(pos.asLong(), FULL) == 0;
+    }
+
+    /**
+     * @return Up to {@code limit} free nest boxes within {@code radius} of {@code origin}, starting from the {@code skip}-th nearest.
+     */
+    public List<BlockPos> findNearestFree(BlockPos origin, int radius, int skip, int limit)
+    {
+        final long radiusSq = (long) radius * radius;
+        final LongArrayList found = new LongArrayList();
+        final int minChunkX = SectionPos.blockToSectionCoord(origin.getX() - radius), maxChunkX = SectionPos.blockToSectionCoord(origin.getX() + radius);
+        final int minChunkZ = SectionPos.blockToSectionCoord(origin.getZ() - radius), maxChunkZ = SectionPos.blockToSectionCoord(origin.getZ() + radius);
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++)
+        {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++)
+            {
+                final Long2ByteMap inChunk = nestBoxes.get(ChunkPos.asLong(chunkX, chunkZ));
+                if (inChunk != null)
+                {
+                    for (Long2ByteMap.Entry entry : inChunk.long2ByteEntrySet())
+                    {
+                        if (entry.getByteValue() == 0 && distSqr(entry.getLongKey(), origin) <= radiusSq)
+                        {
+                            found.add(entry.getLongKey());
+                        }
+                    }
+                }
+            }
+        }
+        found.sort((long left, long right) -> Long.compare(distSqr(left, origin), distSqr(right, origin)));
+
+        final List<BlockPos> result = new ArrayList<>();
+        for (int i = skip; i < Math.min(skip + limit, found.size()); i++)
+        {
+            result.add(BlockPos.of(found.getLong(i)));
+        }
+        return result;
+    }
+
+    /**
+     * @return The last path search result from the chunk section containing {@code pos}, which may have expired.
+     */
+    @Nullable
+    public Reachability getReachability(BlockPos pos)
+    {
+        return reachability.get(SectionPos.asLong(pos));
+    }
+
+    public void setReachability(BlockPos pos, Reachability result)
+    {
+        reachability.put(SectionPos.asLong(pos), result);
+    }
+
+    /**
+     * Called once per second, to clear out path search results that are long expired.
+     */
+    public void tick(long gameTime)
+    {
+        if (!reachability.isEmpty())
+        {
+            reachability.values().removeIf(result -> result.expiry + EXPIRED_TIMEOUT < gameTime);
+        }
+    }
+
+    private static long distSqr(long pos, BlockPos origin)
+    {
+        final long dx = BlockPos.getX(pos) - origin.getX();
+        final long dy = BlockPos.getY(pos) - origin.getY();
+        final long dz = BlockPos.getZ(pos) - origin.getZ();
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * @param target The nest box that was found to be reachable, or {@code null} if none of the searched boxes were.
+     * @param skip   The number of nearest boxes to skip on the next search from this section, if this search found nothing.
+     */
+    public record Reachability(@Nullable BlockPos target, int skip, long expiry) {}
+}
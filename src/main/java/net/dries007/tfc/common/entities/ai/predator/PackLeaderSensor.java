@@ -15,6 +15,7 @@ import net.minecraft.world.entity.ai.memory.MemoryModuleType;
 import net.minecraft.world.entity.ai.sensing.Sensor;
 import net.minecraft.world.phys.AABB;
 
+import net.dries007.tfc.common.entities.ai.EntityQueryCache;
 import net.dries007.tfc.common.entities.ai.TFCBrain;
 
 public class PackLeaderSensor extends Sensor<PackPredator>
@@ -34,7 +35,7 @@ public class PackLeaderSensor extends Sensor<PackPredator>
     protected void doTick(ServerLevel level, PackPredator predator)
     {
         final AABB aabb = predator.getBoundingBox().inflate(32.0D, 32.0D, 32.0D);
-        final List<LivingEntity> list = level.getEntitiesOfClass(LivingEntity.class, aabb, entity -> entity.isAlive() && !entity.equals(predator) && entity.getType().equals(predator.getType()));
+        final List<LivingEntity> list = EntityQueryCache.get(level).getEntitiesOfClass(EntityQueryCache.Source.PACK_LEADER, LivingEntity.class, aabb, entity -> entity.isAlive() && !entity.equals(predator) && entity.getType().equals(predator.getType()));
         this.setAlpha(predator, list);
     }
 
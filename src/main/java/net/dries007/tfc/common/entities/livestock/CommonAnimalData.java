@@ -85,4 +85,18 @@ public record CommonAnimalData(
             .define(lastFedTick, Long.MIN_VALUE)
             .define(lastMateTick, Long.MIN_VALUE);
     }
+
+    /**
+     * @return {@code true} if {@code data} is one of the accessors that affect when familiarity decays, or an animal ages.
+     * @see TFCAnimalProperties#getNextLifecycleTick()
+     */
+    public boolean isLifecycleData(EntityDataAccessor<?> data)
+    {
+        return familiarity.equals(data)
+            || lastFamiliarityTick.equals(data)
+            || birthTick.equals(data)
+            || oldTick.equals(data)
+            || lastAge.equals(data)
+            || uses.equals(data);
+    }
 }
@@ -53,6 +53,7 @@ public abstract class TFCAnimal extends Animal implements TFCAnimalProperties, T
     private final Supplier<? extends SoundEvent> death;
     private final Supplier<? extends SoundEvent> step;
     private final AnimalConfig config;
+    private long nextLifecycleTick = Long.MIN_VALUE;
 
     public TFCAnimal(EntityType<? extends Animal> type, Level level, TFCSounds.EntityId sounds, AnimalConfig config)
     {
@@ -189,6 +190,22 @@ public abstract class TFCAnimal extends Animal implements TFCAnimalProperties, T
         {
             refreshDimensions();
         }
+        if (ANIMAL_DATA.isLifecycleData(data))
+        {
+            nextLifecycleTick = Long.MIN_VALUE;
+        }
+    }
+
+    @Override
+    public long getNextLifecycleTick()
+    {
+        return nextLifecycleTick;
+    }
+
+    @Override
+    public void setNextLifecycleTick(long tick)
+    {
+        nextLifecycleTick = tick;
     }
 
     @Override
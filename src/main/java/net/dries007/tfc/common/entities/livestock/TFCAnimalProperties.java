@@ -88,14 +88,35 @@ public interface TFCAnimalProperties extends GenderedRenderAnimal, BrainAnimalBe
         return getEntity().getType();
     }
 
+    /**
+     * @return The calendar tick at which {@link #tickAnimalData()} next needs to update this animal's familiarity or age. This is transient,
+     * and should be reset to {@link Long#MIN_VALUE} whenever any {@link CommonAnimalData#isLifecycleData lifecycle data} is modified.
+     */
+    long getNextLifecycleTick();
+
+    void setNextLifecycleTick(long tick);
+
     /**
      * Is it time to decay familiarity?
      * If this entity was never fed(eg: newborn, wild) or wasn't fed yesterday (this is the starting of the second day)
+     * <p>
+     * Nothing observable changes between familiarity decay, age changes, and the old age flag, so this only updates the animal once the
+     * calendar reaches {@link #getNextLifecycleTick()}.
      */
     default void tickAnimalData()
     {
-        final float familiarity = getFamiliarity();
         final long currentTick = calendar().getTicks();
+        final long nextTick = getNextLifecycleTick();
+        if (currentTick >= nextTick || nextTick - currentTick > ICalendar.TICKS_IN_DAY)
+        {
+            updateLifecycle(currentTick);
+            setNextLifecycleTick(getNextLifecycleTick(calendar().getTicks()));
+        }
+    }
+
+    private void updateLifecycle(long currentTick)
+    {
+        final float familiarity = getFamiliarity();
         final long familiarityDecayTick = getLastFamiliarityTick();
 
         if (
@@ -122,6 +143,34 @@ public interface TFCAnimalProperties extends GenderedRenderAnimal, BrainAnimalBe
         }
     }
 
+    /**
+     * @return The earliest calendar tick after {@code currentTick} at which familiarity decay, or a change in age, can occur. This is capped at
+     * a day in the future, which picks up config changes, and calendar rewinds. Calendar skips forward are handled as the next tick has passed.
+     */
+    private long getNextLifecycleTick(long currentTick)
+    {
+        long nextTick = currentTick + ICalendar.TICKS_IN_DAY;
+
+        final float familiarity = getFamiliarity();
+        final long familiarityDecayTick = getLastFamiliarityTick();
+        if (familiarity > 0 && familiarityDecayTick != -1 && familiarity < TFCConfig.SERVER.familiarityDecayLimit.get())
+        {
+            nextTick = Math.min(nextTick, familiarityDecayTick + ICalendar.TICKS_IN_DAY + 1);
+        }
+
+        final Age age = getAgeType();
+        if (age == Age.CHILD)
+        {
+            nextTick = Math.min(nextTick, getBirthTick() + (long) animalConfig().adulthoodDays().get() * ICalendar.TICKS_IN_DAY + 1);
+        }
+        final long oldTick = getOldTick();
+        if (age != Age.OLD && oldTick != -1)
+        {
+            nextTick = Math.min(nextTick, oldTick + 1);
+        }
+        return Math.max(nextTick, currentTick + 1);
+    }
+
     default InteractionResult mobInteract(Player player, InteractionHand hand)
     {
         Level level = player.level();
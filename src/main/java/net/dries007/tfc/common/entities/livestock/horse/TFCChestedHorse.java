@@ -79,6 +79,7 @@ public abstract class TFCChestedHorse extends AbstractChestedHorse implements Ho
     private final Supplier<? extends SoundEvent> angry;
     private final AnimalConfig config;
     private final MammalConfig mammalConfig;
+    private long nextLifecycleTick = Long.MIN_VALUE;
 
     public TFCChestedHorse(EntityType<? extends TFCChestedHorse> type, Level level, TFCSounds.EntityId sounds, Supplier<? extends SoundEvent> eatSound, Supplier<? extends SoundEvent> angrySound, MammalConfig config)
     {
@@ -429,6 +430,22 @@ public abstract class TFCChestedHorse extends AbstractChestedHorse implements Ho
         {
             refreshDimensions();
         }
+        if (ANIMAL_DATA.isLifecycleData(data))
+        {
+            nextLifecycleTick = Long.MIN_VALUE;
+        }
+    }
+
+    @Override
+    public long getNextLifecycleTick()
+    {
+        return nextLifecycleTick;
+    }
+
+    @Override
+    public void setNextLifecycleTick(long tick)
+    {
+        nextLifecycleTick = tick;
     }
 
     @Override
@@ -75,6 +75,7 @@ public class TFCHorse extends Horse implements HorseProperties
     private final Supplier<? extends SoundEvent> angry;
     private final AnimalConfig config;
     private final MammalConfig mammalConfig;
+    private long nextLifecycleTick = Long.MIN_VALUE;
 
     public TFCHorse(EntityType<? extends TFCHorse> type, Level level)
     {
@@ -392,6 +393,22 @@ public class TFCHorse extends Horse implements HorseProperties
         {
             refreshDimensions();
         }
+        if (ANIMAL_DATA.isLifecycleData(data))
+        {
+            nextLifecycleTick = Long.MIN_VALUE;
+        }
+    }
+
+    @Override
+    public long getNextLifecycleTick()
+    {
+        return nextLifecycleTick;
+    }
+
+    @Override
+    public void setNextLifecycleTick(long tick)
+    {
+        nextLifecycleTick = tick;
     }
 
     @Override
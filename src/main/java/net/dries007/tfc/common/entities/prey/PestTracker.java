@@ -0,0 +1,95 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.entities.prey;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+import net.dries007.tfc.util.tracker.WorldTracker;
+
+/**
+ * Tracks the number of {@link Pest}s in each chunk of a world, so infestation checks can count nearby pests without an entity query. This is
+ * maintained from entity join, leave, and section change events, and also limits the number of pest spawn attempts made per tick.
+ * <p>
+ * This is only maintained on the logical server.
+ */
+public final class PestTracker
+{
+    public static PestTracker get(Level level)
+    {
+        return WorldTracker.get(level).getPestTracker();
+    }
+
+    private static final int MAX_SPAWN_ATTEMPTS_PER_TICK = 4;
+
+    private final Long2IntMap pestsPerChunk = new Long2IntOpenHashMap();
+    private int spawnAttempts = 0;
+
+    public void add(ChunkPos pos)
+    {
+        pestsPerChunk.mergeInt(pos.toLong(), 1, Integer::sum);
+    }
+
+    public void remove(ChunkPos pos)
+    {
+        final long key = pos.toLong();
+        final int count = pestsPerChunk.get(key) - 1;
+        if (count <= 0)
+        {
+            pestsPerChunk.remove(key);
+        }
+        else
+        {
+            pestsPerChunk.put(key, count);
+        }
+    }
+
+    /**
+     * @return The number of pests in chunks within {@code radius} chunks of {@code pos}, in a square.
+     */
+    public int countNear(BlockPos pos, int radius)
+    {
+        if (pestsPerChunk.isEmpty())
+        {
+            return 0;
+        }
+
+        final int chunkX = SectionPos.blockToSectionCoord(pos.getX());
+        final int chunkZ = SectionPos.blockToSectionCoord(pos.getZ());
+        int count = 0;
+        for (int x = -radius; x <= radius; x++)
+        {
+            for (int z = -radius; z <= radius; z++)
+            {
+                count += pestsPerChunk.get(ChunkPos.asLong(chunkX + x, chunkZ + z));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return {@code true} if a pest spawn attempt can be made this tick, consuming one from the budget.
+     */
+    public boolean tryStartSpawnAttempt()
+    {
+        if (spawnAttempts < MAX_SPAWN_ATTEMPTS_PER_TICK)
+        {
+            spawnAttempts++;
+            return true;
+        }
+        return false;
+    }
+
+    public void tick()
+    {
+        spawnAttempts = 0;
+    }
+}
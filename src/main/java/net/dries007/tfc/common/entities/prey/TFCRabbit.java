@@ -72,6 +72,7 @@ public class TFCRabbit extends Rabbit implements MammalProperties
     private final AnimalConfig config;
     private final MammalConfig mammalConfig;
     private int moreCarrotTicks;
+    private long nextLifecycleTick = Long.MIN_VALUE;
 
     public TFCRabbit(EntityType<? extends Rabbit> type, Level level, MammalConfig config)
     {
@@ -280,6 +281,22 @@ public class TFCRabbit extends Rabbit implements MammalProperties
         {
             refreshDimensions();
         }
+        if (ANIMAL_DATA.isLifecycleData(data))
+        {
+            nextLifecycleTick = Long.MIN_VALUE;
+        }
+    }
+
+    @Override
+    public long getNextLifecycleTick()
+    {
+        return nextLifecycleTick;
+    }
+
+    @Override
+    public void setNextLifecycleTick(long tick)
+    {
+        nextLifecycleTick = tick;
     }
 
     @Override
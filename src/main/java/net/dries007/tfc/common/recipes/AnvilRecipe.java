@@ -6,6 +6,7 @@
 
 package net.dries007.tfc.common.recipes;
 
+import java.util.ArrayList;
 import java.util.List;
 import com.google.common.collect.BiMap;
 import com.mojang.serialization.Codec;
@@ -18,6 +19,7 @@ import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeHolder;
@@ -37,19 +39,31 @@ import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 public class AnvilRecipe implements ISimpleRecipe<AnvilRecipe.Inventory>
 {
+    private static final IndirectHashCollection<Item, RecipeHolder<AnvilRecipe>> CACHE_BY_ITEM = IndirectHashCollection.createForRecipeHolder(r -> RecipeHelpers.itemKeys(r.value().input), TFCRecipeTypes.ANVIL);
+
     public static boolean hasAny(Level level, ItemStack stack, int tier)
     {
-        return RecipeHelpers.getRecipes(level, TFCRecipeTypes.ANVIL)
-            .stream()
-            .anyMatch(r -> r.value().input.test(stack) && tier >= r.value().minTier); // anyMatch() should be faster than calling toList().isEmpty()
+        for (RecipeHolder<AnvilRecipe> recipe : CACHE_BY_ITEM.getAll(stack.getItem()))
+        {
+            if (recipe.value().matches(stack, tier))
+            {
+                return true;
+            }
+        }
+        return false;
     }
 
     public static List<RecipeHolder<AnvilRecipe>> getAll(Level level, ItemStack stack, int tier)
     {
-        return RecipeHelpers.getRecipes(level, TFCRecipeTypes.ANVIL)
-            .stream()
-            .filter(r -> r.value().input.test(stack) && tier >= r.value().minTier)
-            .toList();
+        final List<RecipeHolder<AnvilRecipe>> recipes = new ArrayList<>();
+        for (RecipeHolder<AnvilRecipe> recipe : CACHE_BY_ITEM.getAll(stack.getItem()))
+        {
+            if (recipe.value().matches(stack, tier))
+            {
+                recipes.add(recipe);
+            }
+        }
+        return recipes;
     }
 
     private static final BiMap<ResourceLocation, AnvilRecipe> CACHE = IndirectHashCollection.createForRecipeId(TFCRecipeTypes.ANVIL);
@@ -93,6 +107,8 @@ public class AnvilRecipe implements ISimpleRecipe<AnvilRecipe.Inventory>
     private final boolean applyForgingBonus;
     private final ItemStackProvider output;
 
+    private @Nullable Target target; // The last computed target, which only depends on the seed
+
     public AnvilRecipe(Ingredient input, int minTier, List<ForgeRule> rules, boolean applyForgingBonus, ItemStackProvider output)
     {
         this.input = input;
@@ -109,7 +125,12 @@ public class AnvilRecipe implements ISimpleRecipe<AnvilRecipe.Inventory>
     @Override
     public boolean matches(Inventory inventory, @Nullable Level level)
     {
-        return input.test(inventory.getItem()) && isCorrectTier(inventory.getTier());
+        return matches(inventory.getItem(), inventory.getTier());
+    }
+
+    private boolean matches(ItemStack stack, int anvilTier)
+    {
+        return input.test(stack) && isCorrectTier(anvilTier);
     }
 
     public boolean checkComplete(Inventory inventory)
@@ -173,10 +194,35 @@ public class AnvilRecipe implements ISimpleRecipe<AnvilRecipe.Inventory>
 
     public int computeTarget(Inventory inventory)
     {
-        return 40 + new XoroshiroRandomSource(inventory.getSeed())
-            .forkPositional()
-            .fromHashOf(BuiltInRegistries.ITEM.getKey(output.stack().getItem()))
-            .nextInt(154 - 2 * 40);
+        return getTarget(inventory.getSeed()).work();
+    }
+
+    /**
+     * @return The minimum number of steps required to complete this recipe, as calculated by {@link ForgeRule#calculateOptimalStepsToTarget(int, List)}
+     */
+    public int computeOptimalSteps(Inventory inventory)
+    {
+        return getTarget(inventory.getSeed()).optimalSteps();
+    }
+
+    /**
+     * The target, and the optimal number of steps to reach it, only depend on the seed, which is constant for a given world. So they are
+     * computed once, and reused for every forging interaction.
+     */
+    private Target getTarget(long seed)
+    {
+        Target target = this.target;
+        if (target == null || target.seed != seed)
+        {
+            final int work = 40 + new XoroshiroRandomSource(seed)
+                .forkPositional()
+                .fromHashOf(BuiltInRegistries.ITEM.getKey(output.stack().getItem()))
+                .nextInt(154 - 2 * 40);
+
+            target = new Target(seed, work, ForgeRule.calculateOptimalStepsToTarget(work, rules));
+            this.target = target;
+        }
+        return target;
     }
 
     private boolean isWorkMatched(int work, int target)
@@ -185,6 +231,8 @@ public class AnvilRecipe implements ISimpleRecipe<AnvilRecipe.Inventory>
         return work >= target - leeway && work <= target + leeway;
     }
 
+    private record Target(long seed, int work, int optimalSteps) {}
+
     public interface Inventory extends RecipeInput
     {
         /**
@@ -25,11 +25,11 @@ import org.jetbrains.annotations.Nullable;
 import net.dries007.tfc.common.component.heat.HeatCapability;
 import net.dries007.tfc.common.component.heat.IHeat;
 import net.dries007.tfc.common.recipes.outputs.ItemStackProvider;
-import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.collections.ItemDefinitionCache;
 
 public class HeatingRecipe implements INoopInputRecipe, IRecipePredicate<ItemStack>
 {
-    public static final IndirectHashCollection<Item, HeatingRecipe> CACHE = IndirectHashCollection.createForRecipe(r -> RecipeHelpers.itemKeys(r.ingredient), TFCRecipeTypes.HEATING);
+    public static final ItemDefinitionCache<HeatingRecipe> CACHE = ItemDefinitionCache.createForRecipe(r -> r.ingredient, TFCRecipeTypes.HEATING);
 
     public static final MapCodec<HeatingRecipe> CODEC = RecordCodecBuilder.mapCodec(i -> i.group(
         Ingredient.CODEC.fieldOf("ingredient").forGetter(c -> c.ingredient),
@@ -51,7 +51,7 @@ public class HeatingRecipe implements INoopInputRecipe, IRecipePredicate<ItemSta
     @Nullable
     public static HeatingRecipe getRecipe(ItemStack stack)
     {
-        return RecipeHelpers.getRecipe(CACHE, stack, stack.getItem());
+        return CACHE.get(stack);
     }
 
     private final Ingredient ingredient;
@@ -170,4 +170,29 @@ public class HeatingRecipe implements INoopInputRecipe, IRecipePredicate<ItemSta
     {
         return TFCRecipeTypes.HEATING.get();
     }
+
+    /**
+     * A memo of the heating recipe for a single inventory slot, for block entities which re-query all their recipes whenever any slot changes.
+     * The recipe is only queried again if the item in the slot changes, if the recipe for that item may depend on the stack's components,
+     * or if recipes have been reloaded.
+     */
+    public static final class Memo
+    {
+        private @Nullable Item item = null;
+        private @Nullable HeatingRecipe recipe = null;
+        private int generation = -1;
+
+        @Nullable
+        public HeatingRecipe get(ItemStack stack)
+        {
+            final Item item = stack.getItem();
+            if (item != this.item || generation != CACHE.generation() || !CACHE.dependsOnlyOnItem(item))
+            {
+                this.item = item;
+                this.recipe = getRecipe(stack);
+                this.generation = CACHE.generation();
+            }
+            return recipe;
+        }
+    }
 }
@@ -6,6 +6,7 @@
 
 package net.dries007.tfc.common.recipes;
 
+import java.util.List;
 import java.util.Optional;
 import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
@@ -21,6 +22,7 @@ import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.common.container.KnappingContainer;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 import net.dries007.tfc.util.data.DataManager;
 import net.dries007.tfc.util.data.KnappingPattern;
 import net.dries007.tfc.util.data.KnappingType;
@@ -42,10 +44,16 @@ public class KnappingRecipe implements INoopInputRecipe, IRecipePredicate<Knappi
         KnappingRecipe::new
     );
 
+    /**
+     * Recipes indexed by knapping type, and the number of squares which are on in a matching grid. This means a lookup only needs to test
+     * the few recipes which could possibly match.
+     */
+    public static final IndirectHashCollection<Key, KnappingRecipe> CACHE = IndirectHashCollection.createForRecipe(r -> List.of(new Key(r.knappingType.get(), r.pattern.countOn())), TFCRecipeTypes.KNAPPING);
+
     @Nullable
     public static KnappingRecipe get(Level level, KnappingContainer input)
     {
-        return RecipeHelpers.unbox(RecipeHelpers.getHolder(level, TFCRecipeTypes.KNAPPING, input));
+        return RecipeHelpers.getRecipe(CACHE, input, new Key(input.getKnappingType(), input.getPattern().countOn()));
     }
 
     private final DataManager.Reference<KnappingType> knappingType;
@@ -112,4 +120,6 @@ public class KnappingRecipe implements INoopInputRecipe, IRecipePredicate<Knappi
     {
         return TFCRecipeTypes.KNAPPING.get();
     }
+
+    public record Key(KnappingType type, int countOn) {}
 }
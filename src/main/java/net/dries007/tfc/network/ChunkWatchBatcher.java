@@ -0,0 +1,51 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.network;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+/**
+ * Collects the chunk data of all chunks sent to each player within a tick, and sends them at the end of the tick as one
+ * {@link ChunkWatchPacket} per region. Chunks are sent to a player in batches, so with this, a single packet covers many chunks.
+ * <p>
+ * This is only used on the logical server, from the server thread.
+ */
+public final class ChunkWatchBatcher
+{
+    private static final Map<ServerPlayer, Long2ObjectMap<List<ChunkWatchPacket.Entry>>> PENDING = new IdentityHashMap<>();
+
+    public static void queue(ServerPlayer player, ChunkWatchPacket.Entry entry)
+    {
+        PENDING.computeIfAbsent(player, key -> new Long2ObjectLinkedOpenHashMap<>())
+            .computeIfAbsent(ChunkPos.asLong(entry.pos().x >> ChunkWatchPacket.REGION_BITS, entry.pos().z >> ChunkWatchPacket.REGION_BITS), key -> new ArrayList<>())
+            .add(entry);
+    }
+
+    public static void sendAll()
+    {
+        if (PENDING.isEmpty())
+        {
+            return;
+        }
+        for (Map.Entry<ServerPlayer, Long2ObjectMap<List<ChunkWatchPacket.Entry>>> player : PENDING.entrySet())
+        {
+            for (Long2ObjectMap.Entry<List<ChunkWatchPacket.Entry>> region : player.getValue().long2ObjectEntrySet())
+            {
+                PacketDistributor.sendToPlayer(player.getKey(), new ChunkWatchPacket(ChunkPos.getX(region.getLongKey()), ChunkPos.getZ(region.getLongKey()), region.getValue()));
+            }
+        }
+        PENDING.clear();
+    }
+}
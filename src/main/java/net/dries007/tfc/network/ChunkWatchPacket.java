@@ -6,7 +6,10 @@
 
 package net.dries007.tfc.network;
 
-import io.netty.buffer.ByteBuf;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.world.level.ChunkPos;
@@ -14,32 +17,125 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.LevelChunk;
 
 import net.dries007.tfc.client.ClientHelpers;
+import net.dries007.tfc.client.ClimateTintCache;
 import net.dries007.tfc.world.chunkdata.ChunkData;
 import net.dries007.tfc.world.chunkdata.ForestType;
 import net.dries007.tfc.world.chunkdata.LerpFloatLayer;
 
 /**
- * Sent from server -> client on chunk watch, partially syncs chunk data and updates the client cache
+ * Sent from server -> client on chunk watch, partially syncs chunk data and updates the client cache. Chunks watched in the same tick are
+ * batched by {@link #REGION_SIZE}x{@link #REGION_SIZE} chunk region, see {@link ChunkWatchBatcher}.
+ * <p>
+ * Adjacent chunks share the values at their corners, so each climate layer is sent as a single grid of corner values for the region. Values
+ * are quantised to fixed point, and as climate is very smooth, each is written as a small difference from the previous one. Any chunk which
+ * doesn't agree with the grid on a layer sends its own corner values for that layer, relative to the grid.
  */
 public record ChunkWatchPacket(
-    ChunkPos pos,
-    LerpFloatLayer rainfall,
-    LerpFloatLayer rainVariance,
-    LerpFloatLayer baseGroundwater,
-    LerpFloatLayer temperature,
-    ForestType forestType
+    int regionX,
+    int regionZ,
+    List<Entry> entries
 ) implements CustomPacketPayload
 {
+    public static final int REGION_BITS = 3;
+    public static final int REGION_SIZE = 1 << REGION_BITS;
+
     public static final CustomPacketPayload.Type<ChunkWatchPacket> TYPE = PacketHandler.type("chunk_watch");
-    public static final StreamCodec<ByteBuf, ChunkWatchPacket> CODEC = StreamCodec.composite(
-        StreamCodecs.CHUNK_POS, c -> c.pos,
-        LerpFloatLayer.STREAM_CODEC, c -> c.rainfall,
-        LerpFloatLayer.STREAM_CODEC, c -> c.rainVariance,
-        LerpFloatLayer.STREAM_CODEC, c -> c.baseGroundwater,
-        LerpFloatLayer.STREAM_CODEC, c -> c.temperature,
-        ForestType.STREAM, c -> c.forestType,
-        ChunkWatchPacket::new
-    );
+    public static final StreamCodec<FriendlyByteBuf, ChunkWatchPacket> CODEC = StreamCodec.ofMember(ChunkWatchPacket::encode, ChunkWatchPacket::decode);
+
+    private static final int GRID_SIZE = REGION_SIZE + 1;
+    private static final int LAYERS = 4;
+    private static final float PRECISION = 256f; // Quantisation steps per unit
+
+    private static ChunkWatchPacket decode(FriendlyByteBuf buffer)
+    {
+        final int regionX = buffer.readVarInt();
+        final int regionZ = buffer.readVarInt();
+        final int count = buffer.readVarInt();
+        final int[] localPos = new int[count];
+        final ForestType[] forestTypes = new ForestType[count];
+        for (int i = 0; i < count; i++)
+        {
+            localPos[i] = buffer.readUnsignedByte();
+            forestTypes[i] = ForestType.STREAM.decode(buffer);
+        }
+
+        final boolean[] known = new boolean[GRID_SIZE * GRID_SIZE];
+        for (int i = 0; i < count; i++)
+        {
+            for (int corner = 0; corner < 4; corner++)
+            {
+                known[cornerIndex(localPos[i], corner)] = true;
+            }
+        }
+
+        final LerpFloatLayer[][] layers = new LerpFloatLayer[LAYERS][count];
+        final int[] grid = new int[GRID_SIZE * GRID_SIZE];
+        final int[] values = new int[4];
+        for (int layer = 0; layer < LAYERS; layer++)
+        {
+            int previous = 0;
+            for (int index = 0; index < grid.length; index++)
+            {
+                if (known[index])
+                {
+                    previous += readSignedVarInt(buffer);
+                    grid[index] = previous;
+                }
+            }
+
+            final boolean[] explicit = new boolean[count];
+            final int explicitCount = buffer.readVarInt();
+            for (int i = 0; i < explicitCount; i++)
+            {
+                explicit[buffer.readVarInt()] = true;
+            }
+
+            for (int i = 0; i < count; i++)
+            {
+                for (int corner = 0; corner < 4; corner++)
+                {
+                    values[corner] = grid[cornerIndex(localPos[i], corner)] + (explicit[i] ? readSignedVarInt(buffer) : 0);
+                }
+                layers[layer][i] = new LerpFloatLayer(values[0] / PRECISION, values[1] / PRECISION, values[2] / PRECISION, values[3] / PRECISION);
+            }
+        }
+
+        final List<Entry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+        {
+            final ChunkPos pos = new ChunkPos((regionX << REGION_BITS) + (localPos[i] >> REGION_BITS), (regionZ << REGION_BITS) + (localPos[i] & (REGION_SIZE - 1)));
+            entries.add(new Entry(pos, layers[0][i], layers[1][i], layers[2][i], layers[3][i], forestTypes[i]));
+        }
+        return new ChunkWatchPacket(regionX, regionZ, entries);
+    }
+
+    /**
+     * @param localPos The position of a chunk within the region, packed as {@code (x << REGION_BITS) | z}
+     * @param corner   The corner of the chunk, in the order of {@link LerpFloatLayer}'s values: {@code 00, 01, 10, 11}
+     * @return The index of the corner within the region's grid
+     */
+    private static int cornerIndex(int localPos, int corner)
+    {
+        final int x = (localPos >> REGION_BITS) + (corner >> 1);
+        final int z = (localPos & (REGION_SIZE - 1)) + (corner & 1);
+        return x * GRID_SIZE + z;
+    }
+
+    private static int quantise(float value)
+    {
+        return Math.round(value * PRECISION);
+    }
+
+    private static void writeSignedVarInt(FriendlyByteBuf buffer, int value)
+    {
+        buffer.writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    private static int readSignedVarInt(FriendlyByteBuf buffer)
+    {
+        final int value = buffer.readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
 
     @Override
     public Type<? extends CustomPacketPayload> type()
@@ -52,12 +148,119 @@ public record ChunkWatchPacket(
         final Level level = ClientHelpers.getLevel();
         if (level != null)
         {
-            final LevelChunk chunk = level.getChunk(pos.x, pos.z);
-            final ChunkData data = ChunkData.get(chunk);
-            if (data.status() != ChunkData.Status.INVALID)
+            for (Entry entry : entries)
             {
-                data.onUpdatePacket(rainfall, rainVariance, baseGroundwater, temperature, forestType);
+                final LevelChunk chunk = level.getChunk(entry.pos.x, entry.pos.z);
+                final ChunkData data = ChunkData.get(chunk);
+                if (data.status() != ChunkData.Status.INVALID)
+                {
+                    data.onUpdatePacket(entry.rainfall, entry.rainVariance, entry.baseGroundwater, entry.temperature, entry.forestType);
+                    ClimateTintCache.invalidate(entry.pos);
+                }
             }
         }
     }
-}
\ No newline at end of file
+
+    private void encode(FriendlyByteBuf buffer)
+    {
+        buffer.writeVarInt(regionX);
+        buffer.writeVarInt(regionZ);
+        buffer.writeVarInt(entries.size());
+        final int[] localPos = new int[entries.size()];
+        for (int i = 0; i < entries.size(); i++)
+        {
+            final Entry entry = entries.get(i);
+            localPos[i] = ((entry.pos.x & (REGION_SIZE - 1)) << REGION_BITS) | (entry.pos.z & (REGION_SIZE - 1));
+            buffer.writeByte(localPos[i]);
+            ForestType.STREAM.encode(buffer, entry.forestType);
+        }
+
+        final boolean[] known = new boolean[GRID_SIZE * GRID_SIZE];
+        final int[] grid = new int[GRID_SIZE * GRID_SIZE];
+        final int[][] values = new int[entries.size()][4];
+        for (int layer = 0; layer < LAYERS; layer++)
+        {
+            // The first chunk to touch each corner decides the grid value, and any later chunk which disagrees must be sent explicitly
+            final boolean[] explicit = new boolean[entries.size()];
+            int explicitCount = 0;
+            Arrays.fill(known, false);
+            for (int i = 0; i < entries.size(); i++)
+            {
+                final LerpFloatLayer value = entries.get(i).layer(layer);
+                values[i][0] = quantise(value.value00());
+                values[i][1] = quantise(value.value01());
+                values[i][2] = quantise(value.value10());
+                values[i][3] = quantise(value.value11());
+
+                boolean matches = true;
+                for (int corner = 0; corner < 4; corner++)
+                {
+                    final int index = cornerIndex(localPos[i], corner);
+                    if (!known[index])
+                    {
+                        known[index] = true;
+                        grid[index] = values[i][corner];
+                    }
+                    else if (grid[index] != values[i][corner])
+                    {
+                        matches = false;
+                    }
+                }
+                if (!matches)
+                {
+                    explicit[i] = true;
+                    explicitCount++;
+                }
+            }
+
+            int previous = 0;
+            for (int index = 0; index < grid.length; index++)
+            {
+                if (known[index])
+                {
+                    writeSignedVarInt(buffer, grid[index] - previous);
+                    previous = grid[index];
+                }
+            }
+
+            buffer.writeVarInt(explicitCount);
+            for (int i = 0; i < entries.size(); i++)
+            {
+                if (explicit[i])
+                {
+                    buffer.writeVarInt(i);
+                }
+            }
+            for (int i = 0; i < entries.size(); i++)
+            {
+                if (explicit[i])
+                {
+                    for (int corner = 0; corner < 4; corner++)
+                    {
+                        writeSignedVarInt(buffer, values[i][corner] - grid[cornerIndex(localPos[i], corner)]);
+                    }
+                }
+            }
+        }
+    }
+
+    public record Entry(
+        ChunkPos pos,
+        LerpFloatLayer rainfall,
+        LerpFloatLayer rainVariance,
+        LerpFloatLayer baseGroundwater,
+        LerpFloatLayer temperature,
+        ForestType forestType
+    ) {
+        LerpFloatLayer layer(int index)
+        {
+            return switch (index)
+            {
+                case 0 -> rainfall;
+                case 1 -> rainVariance;
+                case 2 -> baseGroundwater;
+                default -> temperature;
+            };
+        }
+    }
+}
@@ -6,20 +6,32 @@
 
 package net.dries007.tfc.network;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import com.mojang.logging.LogUtils;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 import net.dries007.tfc.util.data.DataManager;
 import net.dries007.tfc.util.data.DataManagers;
 
+/**
+ * Syncs the contents of all synced {@link DataManager}s to the client. On login, every element is sent. On reload, only the elements
+ * which changed since the last sync are sent, and data managers with no changes are omitted entirely.
+ * <p>
+ * Element ids are written against a per-manager table of namespaces, as nearly all ids in a single data manager share one or two namespaces.
+ */
 public record DataManagerSyncPacket(List<Entry<?>> values) implements CustomPacketPayload
 {
     public static final CustomPacketPayload.Type<DataManagerSyncPacket> TYPE = PacketHandler.type("data_managers");
@@ -30,15 +42,46 @@ public record DataManagerSyncPacket(List<Entry<?>> values) implements CustomPack
 
     private static final Logger LOGGER = LogUtils.getLogger();
 
-    private static <T> StreamCodec<RegistryFriendlyByteBuf, Entry<T>> streamCodec(DataManager<T> manager)
+    /**
+     * @param onlyChanged If {@code true}, only elements which changed since the last sync are sent, and the current elements are recorded as
+     *                    the last sync. This must only be used when syncing to all players after a reload, as only then do all clients share
+     *                    the same previous state. Otherwise, every element is sent, and the last sync is left untouched.
+     */
+    public static DataManagerSyncPacket create(RegistryAccess registryAccess, boolean onlyChanged)
+    {
+        final List<Entry<?>> entries = new ArrayList<>();
+        for (DataManager<?> manager : DataManagers.REGISTRY)
+        {
+            if (manager.isSynced())
+            {
+                addEntry(entries, manager, registryAccess, onlyChanged);
+            }
+        }
+        return new DataManagerSyncPacket(entries);
+    }
+
+    private static <T> void addEntry(List<Entry<?>> entries, DataManager<T> manager, RegistryAccess registryAccess, boolean onlyChanged)
     {
-        return ByteBufCodecs.<RegistryFriendlyByteBuf, ResourceLocation, T, Map<ResourceLocation, T>>map(HashMap::new, ResourceLocation.STREAM_CODEC, manager.streamCodec())
-            .map(e -> new Entry<>(manager, e), e -> e.values);
+        if (!onlyChanged)
+        {
+            entries.add(new Entry<>(manager, true, manager.getElements(), List.of()));
+            return;
+        }
+        final @Nullable DataManager.SyncDelta<T> delta = manager.computeSyncDelta(registryAccess);
+        if (delta == null)
+        {
+            entries.add(new Entry<>(manager, true, manager.getElements(), List.of()));
+        }
+        else if (!delta.isEmpty())
+        {
+            entries.add(new Entry<>(manager, false, delta.changed(), delta.removed()));
+        }
     }
 
-    public DataManagerSyncPacket()
+    private static <T> StreamCodec<RegistryFriendlyByteBuf, Entry<T>> streamCodec(DataManager<T> manager)
     {
-        this(DataManagers.REGISTRY.stream().filter(DataManager::isSynced).<Entry<?>>map(Entry::new).toList());
+        final StreamCodec<RegistryFriendlyByteBuf, T> valueCodec = manager.streamCodec();
+        return StreamCodec.of((buffer, entry) -> entry.encode(buffer, valueCodec), buffer -> Entry.decode(buffer, manager, valueCodec));
     }
 
     @Override
@@ -60,18 +103,106 @@ public record DataManagerSyncPacket(List<Entry<?>> values) implements CustomPack
         }
     }
 
-    record Entry<T>(
+    /**
+     * @param full    If {@code true}, {@code values} are all elements of the data manager, otherwise they are only the changed elements
+     * @param removed Ids of elements which were removed since the last sync, only present if not {@code full}
+     */
+    public record Entry<T>(
         DataManager<T> manager,
-        Map<ResourceLocation, T> values
+        boolean full,
+        Map<ResourceLocation, T> values,
+        List<ResourceLocation> removed
     ) {
-        Entry(DataManager<T> manager)
+        public static <T> Entry<T> decode(RegistryFriendlyByteBuf buffer, DataManager<T> manager, StreamCodec<RegistryFriendlyByteBuf, T> valueCodec)
+        {
+            final boolean full = buffer.readBoolean();
+            final String[] namespaces = new String[buffer.readVarInt()];
+            for (int i = 0; i < namespaces.length; i++)
+            {
+                namespaces[i] = buffer.readUtf();
+            }
+
+            final int valueCount = buffer.readVarInt();
+            final Map<ResourceLocation, T> values = new HashMap<>(valueCount);
+            for (int i = 0; i < valueCount; i++)
+            {
+                final ResourceLocation id = readId(buffer, namespaces);
+                values.put(id, valueCodec.decode(buffer));
+            }
+
+            final int removedCount = buffer.readVarInt();
+            final List<ResourceLocation> removed = new ArrayList<>(removedCount);
+            for (int i = 0; i < removedCount; i++)
+            {
+                removed.add(readId(buffer, namespaces));
+            }
+            return new Entry<>(manager, full, values, removed);
+        }
+
+        private static ResourceLocation readId(FriendlyByteBuf buffer, String[] namespaces)
+        {
+            return ResourceLocation.fromNamespaceAndPath(namespaces[buffer.readVarInt()], buffer.readUtf());
+        }
+
+        public void encode(RegistryFriendlyByteBuf buffer, StreamCodec<RegistryFriendlyByteBuf, T> valueCodec)
+        {
+            final Object2IntMap<String> namespaces = new Object2IntOpenHashMap<>();
+            final List<String> namespaceTable = new ArrayList<>();
+            for (ResourceLocation id : values.keySet())
+            {
+                addNamespace(namespaces, namespaceTable, id);
+            }
+            for (ResourceLocation id : removed)
+            {
+                addNamespace(namespaces, namespaceTable, id);
+            }
+
+            buffer.writeBoolean(full);
+            buffer.writeVarInt(namespaceTable.size());
+            for (String namespace : namespaceTable)
+            {
+                buffer.writeUtf(namespace);
+            }
+
+            buffer.writeVarInt(values.size());
+            for (Map.Entry<ResourceLocation, T> entry : values.entrySet())
+            {
+                writeId(buffer, namespaces, entry.getKey());
+                valueCodec.encode(buffer, entry.getValue());
+            }
+
+            buffer.writeVarInt(removed.size());
+            for (ResourceLocation id : removed)
+            {
+                writeId(buffer, namespaces, id);
+            }
+        }
+
+        private static void addNamespace(Object2IntMap<String> namespaces, List<String> namespaceTable, ResourceLocation id)
+        {
+            if (!namespaces.containsKey(id.getNamespace()))
+            {
+                namespaces.put(id.getNamespace(), namespaceTable.size());
+                namespaceTable.add(id.getNamespace());
+            }
+        }
+
+        private static void writeId(FriendlyByteBuf buffer, Object2IntMap<String> namespaces, ResourceLocation id)
         {
-            this(manager, manager.getElements());
+            buffer.writeVarInt(namespaces.getInt(id.getNamespace()));
+            buffer.writeUtf(id.getPath());
         }
 
         void handle()
         {
-            manager.bindValues(values);
+            if (full)
+            {
+                manager.bindValues(values);
+            }
+            else
+            {
+                manager.bindChangedValues(values, removed);
+            }
         }
     }
 }
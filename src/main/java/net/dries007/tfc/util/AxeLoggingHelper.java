@@ -8,17 +8,21 @@ package net.dries007.tfc.util;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.LevelEvent;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.EnumProperty;
+import net.minecraft.world.level.gameevent.GameEvent;
 import net.neoforged.neoforge.common.ItemAbilities;
 
 import net.dries007.tfc.common.TFCTags;
@@ -36,27 +40,76 @@ public class AxeLoggingHelper
             && !isPartOfLargerTrunk(level, pos, state);
     }
 
+    /**
+     * Fells the tree containing the log at {@code pos}. All logs are removed first, without notifying their neighbours, so removing each log
+     * does not cascade updates through the rest of the tree. Then, only the blocks surrounding the tree are notified, which lets leaves
+     * recalculate their distance and decay. Each log still drops its items and fires its game event where it stood.
+     */
     public static void doLogging(LevelAccessor level, BlockPos pos, Player player, ItemStack axe)
     {
         final boolean inefficient = isInefficientAxe(axe);
-        for (BlockPos log : findLogs(level, pos))
+        final List<BlockPos> logs = findLogs(level, pos);
+        if (!(level instanceof ServerLevel serverLevel))
         {
-            level.destroyBlock(log, !inefficient || level.getRandom().nextFloat() < 0.6f, player);
+            for (BlockPos log : logs)
+            {
+                level.destroyBlock(log, !inefficient || level.getRandom().nextFloat() < 0.6f, player);
+                Helpers.damageItem(axe, player, InteractionHand.MAIN_HAND);
+                if (axe.isEmpty())
+                {
+                    return; // stop breaking if the axe is broken
+                }
+            }
+            return;
+        }
+
+        final LongSet removed = new LongOpenHashSet(logs.size());
+        final List<BlockPos> removedLogs = new ArrayList<>(logs.size());
+        for (BlockPos log : logs)
+        {
+            // Same as Level.destroyBlock(), but without updating neighbours
+            final BlockState state = level.getBlockState(log);
+            level.levelEvent(LevelEvent.PARTICLES_DESTROY_BLOCK, log, Block.getId(state));
+            if (!inefficient || level.getRandom().nextFloat() < 0.6f)
+            {
+                Block.dropResources(state, serverLevel, log, level.getBlockEntity(log), player, ItemStack.EMPTY);
+            }
+            level.setBlock(log, level.getFluidState(log).createLegacyBlock(), Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE);
+            level.gameEvent(GameEvent.BLOCK_DESTROY, log, GameEvent.Context.of(player, state));
+            removed.add(log.asLong());
+            removedLogs.add(log);
+
             Helpers.damageItem(axe, player, InteractionHand.MAIN_HAND);
             if (axe.isEmpty())
             {
-                return; // stop breaking if the axe is broken
+                break; // stop breaking if the axe is broken
+            }
+        }
+
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (BlockPos log : removedLogs)
+        {
+            final BlockState state = level.getBlockState(log);
+            for (Direction direction : Helpers.DIRECTIONS)
+            {
+                cursor.setWithOffset(log, direction);
+                if (!removed.contains(cursor.asLong()))
+                {
+                    level.neighborShapeChanged(direction.getOpposite(), state, cursor, log, Block.UPDATE_ALL, 512);
+                    serverLevel.neighborChanged(cursor, state.getBlock(), log);
+                }
             }
         }
     }
 
     public static List<BlockPos> findLogs(LevelAccessor level, BlockPos pos)
     {
-        final Set<BlockPos> seen = new HashSet<>(64);
+        final LongSet seen = new LongOpenHashSet(64);
         final List<BlockPos> logs = new ArrayList<>(16);
         final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
 
         logs.add(pos);
+        seen.add(pos.asLong());
         for (int i = 0; i < logs.size(); i++)
         {
             final BlockPos log = logs.get(i);
@@ -67,24 +120,23 @@ public class AxeLoggingHelper
                     for (int dz = -1; dz <= 1; dz++)
                     {
                         cursor.setWithOffset(log, dx, dy, dz);
-                        if (!seen.contains(cursor))
+                        final long key = cursor.asLong();
+                        if (!seen.contains(key))
                         {
-                            final BlockPos cursorPos = cursor.immutable();
-                            final BlockState cursorState = level.getBlockState(cursorPos);
-
+                            final BlockState cursorState = level.getBlockState(cursor);
                             if (isLoggingBlock(cursorState))
                             {
-                                if (isConnected(log, cursorPos, cursorState))
+                                if (isConnected(log, cursor, cursorState))
                                 {
-                                    logs.add(cursorPos);
-                                    seen.add(cursorPos); // For connected logs, mark them as seen as we add them to the queue
+                                    logs.add(cursor.immutable());
+                                    seen.add(key); // For connected logs, mark them as seen as we add them to the queue
                                 }
                                 // But for non-connected blocks, don't mark it as seen, as we might need to check this again from another angle
                             }
                             else
                             {
                                 // Mark non-logging blocks as seen, so we don't re-check them
-                                seen.add(cursorPos);
+                                seen.add(key);
                             }
                         }
                     }
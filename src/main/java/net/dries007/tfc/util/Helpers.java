@@ -112,13 +112,11 @@ import net.dries007.tfc.common.blocks.ISlowEntities;
 import net.dries007.tfc.common.component.food.FoodCapability;
 import net.dries007.tfc.common.component.heat.HeatCapability;
 import net.dries007.tfc.common.component.heat.IHeat;
-import net.dries007.tfc.common.component.size.IItemSize;
 import net.dries007.tfc.common.component.size.ItemSizeManager;
-import net.dries007.tfc.common.component.size.Size;
-import net.dries007.tfc.common.component.size.Weight;
 import net.dries007.tfc.common.effect.TFCEffects;
 import net.dries007.tfc.common.entities.ai.prey.PestAi;
 import net.dries007.tfc.common.entities.prey.Pest;
+import net.dries007.tfc.common.entities.prey.PestTracker;
 import net.dries007.tfc.util.data.FluidHeat;
 import net.dries007.tfc.util.tooltip.Tooltips;
 
@@ -505,8 +503,9 @@ public final class Helpers
         }
         if (level.random.nextInt(120 - (20 * infestation)) == 0)
         {
-            final float chanceBasedOnCurrentPests = 1f - Mth.clampedMap(level.getEntitiesOfClass(Pest.class, new AABB(pos).inflate(40d)).size(), 0, 8, 0f, 1f);
-            if (level.random.nextFloat() > chanceBasedOnCurrentPests)
+            final PestTracker pests = PestTracker.get(level);
+            final float chanceBasedOnCurrentPests = 1f - Mth.clampedMap(pests.countNear(pos, 2), 0, 8, 0f, 1f);
+            if (level.random.nextFloat() > chanceBasedOnCurrentPests || !pests.tryStartSpawnAttempt())
             {
                 return;
             }
@@ -559,8 +558,7 @@ public final class Helpers
             final ItemStack stack = container.getItem(i);
             if (!stack.isEmpty())
             {
-                final IItemSize size = ItemSizeManager.get(stack);
-                if (size.getWeight(stack) == Weight.VERY_HEAVY && size.getSize(stack) == Size.HUGE)
+                if (ItemSizeManager.isHugeAndVeryHeavy(stack))
                 {
                     count++;
                     if (count == 2)
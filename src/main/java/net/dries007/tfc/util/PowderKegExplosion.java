@@ -10,6 +10,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import com.mojang.datafixers.util.Pair;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenCustomHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
@@ -20,6 +22,7 @@ import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.ItemStackLinkedSet;
 import net.minecraft.world.level.Explosion;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
@@ -78,10 +81,17 @@ public class PowderKegExplosion extends Explosion
 
         final List<BlockPos> affectedBlockPositions = this.getToBlow();
         final ObjectArrayList<Pair<ItemStack, BlockPos>> allDrops = new ObjectArrayList<>();
+        final Object2IntMap<ItemStack> lastDropIndex = new Object2IntOpenCustomHashMap<>(ItemStackLinkedSet.TYPE_AND_TAG);
+        lastDropIndex.defaultReturnValue(-1);
         Collections.shuffle(affectedBlockPositions, new Random());
 
         final boolean easyMode = TFCConfig.SERVER.powderKegOnlyBreaksNaturalBlocks.get();
 
+        // Shared by all blocks without a block entity, as only the origin differs between them
+        final @Nullable LootParams.Builder sharedLootContext = this.level instanceof ServerLevel serverLevel
+            ? new LootParams.Builder(serverLevel).withParameter(LootContextParams.TOOL, ItemStack.EMPTY).withOptionalParameter(LootContextParams.THIS_ENTITY, this.source)
+            : null;
+
         for (BlockPos pos : affectedBlockPositions)
         {
             final BlockState state = level.getBlockState(pos);
@@ -122,12 +132,14 @@ public class PowderKegExplosion extends Explosion
             {
                 final BlockPos dropPos = pos.immutable();
                 this.level.getProfiler().push("explosion_blocks");
-                if (state.canDropFromExplosion(this.level, pos, this) && this.level instanceof ServerLevel)
+                if (state.canDropFromExplosion(this.level, pos, this) && sharedLootContext != null)
                 {
                     final BlockEntity blockentity = state.hasBlockEntity() ? this.level.getBlockEntity(pos) : null;
-                    final LootParams.Builder lootContext = (new LootParams.Builder((ServerLevel) this.level)).withParameter(LootContextParams.ORIGIN, Vec3.atCenterOf(pos)).withParameter(LootContextParams.TOOL, ItemStack.EMPTY).withOptionalParameter(LootContextParams.BLOCK_ENTITY, blockentity).withOptionalParameter(LootContextParams.THIS_ENTITY, this.source);
+                    final LootParams.Builder lootContext = blockentity == null
+                        ? sharedLootContext.withParameter(LootContextParams.ORIGIN, Vec3.atCenterOf(pos))
+                        : (new LootParams.Builder((ServerLevel) this.level)).withParameter(LootContextParams.ORIGIN, Vec3.atCenterOf(pos)).withParameter(LootContextParams.TOOL, ItemStack.EMPTY).withParameter(LootContextParams.BLOCK_ENTITY, blockentity).withOptionalParameter(LootContextParams.THIS_ENTITY, this.source);
 
-                    state.getDrops(lootContext).forEach((drop) -> addBlockDrops(allDrops, drop, dropPos));
+                    state.getDrops(lootContext).forEach((drop) -> addBlockDrops(allDrops, lastDropIndex, drop, dropPos));
                 }
 
                 state.onBlockExploded(this.level, pos, this);
@@ -142,18 +154,19 @@ public class PowderKegExplosion extends Explosion
         }
     }
 
-    private static void addBlockDrops(ObjectArrayList<Pair<ItemStack, BlockPos>> allDrops, ItemStack drop, BlockPos dropPos)
+    /**
+     * Merges a drop into the list of all drops, into stacks of up to 16. Only the most recently added stack of each item can be partially
+     * full, so that is the only stack which needs to be checked, which is tracked by {@code lastDropIndex}, rather than scanning all drops.
+     */
+    private static void addBlockDrops(ObjectArrayList<Pair<ItemStack, BlockPos>> allDrops, Object2IntMap<ItemStack> lastDropIndex, ItemStack drop, BlockPos dropPos)
     {
-        int i = allDrops.size();
-
-        for (int j = 0; j < i; ++j)
+        final int index = lastDropIndex.getInt(drop);
+        if (index != -1)
         {
-            Pair<ItemStack, BlockPos> pair = allDrops.get(j);
-            ItemStack itemstack = pair.getFirst();
-            if (ItemEntity.areMergable(itemstack, drop))
+            final Pair<ItemStack, BlockPos> pair = allDrops.get(index);
+            if (ItemEntity.areMergable(pair.getFirst(), drop))
             {
-                ItemStack itemstack1 = ItemEntity.merge(itemstack, drop, 16);
-                allDrops.set(j, Pair.of(itemstack1, pair.getSecond()));
+                allDrops.set(index, Pair.of(ItemEntity.merge(pair.getFirst(), drop, 16), pair.getSecond()));
                 if (drop.isEmpty())
                 {
                     return;
@@ -161,6 +174,7 @@ public class PowderKegExplosion extends Explosion
             }
         }
 
+        lastDropIndex.put(drop, allDrops.size());
         allDrops.add(Pair.of(drop, dropPos));
     }
 
@@ -20,10 +20,14 @@ public interface ICalendarTickable
 {
     /**
      * Here we check every tick for a calendar discrepancy. This only checks for differences in player time, and calls {@link ICalendarTickable#onCalendarUpdate(long playerTickDelta)} as necessary.
+     * The number of catch-ups per tick is limited by {@link ServerCalendar#tryStartCatchUp()}, so this may be deferred to a later tick.
      * <p>
-     * Implementations MUST call {@code checkForCalendarUpdate()} in their {@code serverTick} method.
+     * Implementations MUST call {@code checkForCalendarUpdate()} in their {@code serverTick} method, and MUST skip the rest of the tick if
+     * this returns {@code false}. Otherwise, the block entity would tick against the current calendar time before it has caught up.
+     *
+     * @return {@code true} if the block entity is caught up, and may tick as normal, or {@code false} if its catch-up was deferred.
      */
-    default void checkForCalendarUpdate()
+    default boolean checkForCalendarUpdate()
     {
         final BlockEntity entity = ((BlockEntity) this);
         if (entity.getLevel() != null && !entity.getLevel().isClientSide())
@@ -33,11 +37,18 @@ public interface ICalendarTickable
             final long tickDelta = thisTick - lastTick;
             if (lastTick != Integer.MIN_VALUE && tickDelta != 1)
             {
+                if (tickDelta > 1 && !Calendars.SERVER.tryStartCatchUp())
+                {
+                    // Too many have caught up this tick, so wait. The block entity does not tick at all meanwhile, so the last tick is
+                    // left as is, and all ticks up to the one where we do catch up are simulated then.
+                    return false;
+                }
                 onCalendarUpdate(tickDelta - 1);
             }
             setLastCalendarUpdateTick(thisTick);
             markDirty();
         }
+        return true;
     }
 
     /**
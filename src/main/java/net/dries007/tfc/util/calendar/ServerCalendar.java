@@ -26,6 +26,7 @@ import net.dries007.tfc.util.advancements.TFCAdvancements;
 public final class ServerCalendar extends Calendar
 {
     public static final int SYNC_INTERVAL = 20; // Number of ticks between sync attempts. This mimics vanilla's time sync
+    public static final int MAX_CATCH_UPS_PER_TICK = 64; // Number of calendar tickables that may catch up on a time skip, per tick
 
     /**
      * We don't use this game rule - it makes tracking time complicated, and forces us to rely on the NeoForge implementation of
@@ -47,6 +48,7 @@ public final class ServerCalendar extends Calendar
     }
 
     private int syncCounter;
+    private int catchUpsThisTick;
 
     /**
      * Skips the calendar forward by a number of calendar ticks, and also increments the number of player ticks by the amount that
@@ -61,6 +63,23 @@ public final class ServerCalendar extends Calendar
         sendUpdatePacket();
     }
 
+    /**
+     * Called by {@link ICalendarTickable}s which have observed a time skip, before they catch up. After a large skip (i.e. sleeping), every
+     * loaded calendar tickable will observe it on the same tick, so this limits the number which catch up in a single tick, and the rest
+     * are spread out over the following ticks.
+     *
+     * @return {@code true} if the caller may catch up this tick, or {@code false} if it should wait.
+     */
+    public boolean tryStartCatchUp()
+    {
+        if (catchUpsThisTick < MAX_CATCH_UPS_PER_TICK)
+        {
+            catchUpsThisTick++;
+            return true;
+        }
+        return false;
+    }
+
     public void setMonthLength(int newMonthLength)
     {
         // Recalculate the new calendar time
@@ -122,6 +141,7 @@ public final class ServerCalendar extends Calendar
         {
             playerTicks++;
         }
+        catchUpsThisTick = 0;
         syncCounter++;
         if (syncCounter >= SYNC_INTERVAL)
         {
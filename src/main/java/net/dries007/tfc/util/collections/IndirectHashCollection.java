@@ -65,6 +65,17 @@ public class IndirectHashCollection<K, R>
         return cache;
     }
 
+    /**
+     * Creates a new {@link IndirectHashCollection} of recipe holders, for queries which need the recipe ID, that is backed from the given
+     * recipe type. This will manage the cache's overall lifecycle, including clearing and reloading, as necessary.
+     */
+    public static <K, R extends Recipe<?>> IndirectHashCollection<K, RecipeHolder<R>> createForRecipeHolder(Function<RecipeHolder<R>, Iterable<? extends K>> keyExtractor, Supplier<RecipeType<R>> recipeType)
+    {
+        final IndirectHashCollection<K, RecipeHolder<R>> cache = new IndirectHashCollection<>(keyExtractor);
+        create(new RecipeHolderCache<>(cache, recipeType));
+        return cache;
+    }
+
     /**
      * Creates a new bijective ID map between that is backed from the given recipe type. This will manage the cache's overall
      * lifecycle, including clearing and reloading, as necessary
@@ -149,6 +160,12 @@ public class IndirectHashCollection<K, R>
         @Override public void reload(RecipeManager manager) { cache.reload(RecipeHelpers.getRecipes(manager, recipeType).stream().map(RecipeHolder::value).toList()); }
     }
 
+    record RecipeHolderCache<K, R extends Recipe<?>>(IndirectHashCollection<K, RecipeHolder<R>> cache, Supplier<RecipeType<R>> recipeType) implements Cache
+    {
+        @Override public void clear() { cache.clear(); }
+        @Override public void reload(RecipeManager manager) { cache.reload(RecipeHelpers.getRecipes(manager, recipeType)); }
+    }
+
     record RecipeIdCache<R extends Recipe<?>>(BiMap<ResourceLocation, R> cache, Supplier<RecipeType<R>> recipeType) implements Cache
     {
         @Override
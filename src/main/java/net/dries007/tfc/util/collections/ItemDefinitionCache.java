@@ -0,0 +1,122 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.collections;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeType;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.common.recipes.IRecipePredicate;
+import net.dries007.tfc.common.recipes.RecipeHelpers;
+
+/**
+ * A cache of item stack -> definition, for data driven definitions which are queried very frequently, such as food and heat. On reload,
+ * each item is resolved to its definition once. If the first definition that could match an item has a simple ingredient (one which
+ * only depends on the item), then that definition is always the result, and the lookup is a single identity map query. Otherwise, the
+ * item falls back to testing each candidate in order, as {@link IndirectHashCollection} would.
+ */
+public final class ItemDefinitionCache<R extends IRecipePredicate<ItemStack>> implements IndirectHashCollection.Cache
+{
+    /**
+     * Create a new {@link ItemDefinitionCache}, which is reloaded along with all other {@link IndirectHashCollection}s.
+     */
+    public static <R extends IRecipePredicate<ItemStack>> ItemDefinitionCache<R> create(Function<R, Ingredient> ingredient, Supplier<Collection<R>> values)
+    {
+        return IndirectHashCollection.create(new ItemDefinitionCache<>(ingredient, manager -> values.get()));
+    }
+
+    /**
+     * Create a new {@link ItemDefinitionCache} that is backed from the given recipe type.
+     */
+    public static <R extends Recipe<?> & IRecipePredicate<ItemStack>> ItemDefinitionCache<R> createForRecipe(Function<R, Ingredient> ingredient, Supplier<RecipeType<R>> recipeType)
+    {
+        return IndirectHashCollection.create(new ItemDefinitionCache<>(ingredient, manager -> RecipeHelpers.getRecipes(manager, recipeType).stream().map(RecipeHolder::value).toList()));
+    }
+
+    private final Function<R, Ingredient> ingredient;
+    private final Function<RecipeManager, Collection<R>> values;
+    private final IndirectHashCollection<Item, R> candidates;
+    private final Map<Item, R> resolved;
+    private int generation; // Incremented on every reload, so external memos of this cache can be invalidated
+
+    private ItemDefinitionCache(Function<R, Ingredient> ingredient, Function<RecipeManager, Collection<R>> values)
+    {
+        this.ingredient = ingredient;
+        this.values = values;
+        this.candidates = new IndirectHashCollection<>(r -> RecipeHelpers.itemKeys(ingredient.apply(r)));
+        this.resolved = new IdentityHashMap<>();
+    }
+
+    @Nullable
+    public R get(ItemStack stack)
+    {
+        final Item item = stack.getItem();
+        final @Nullable R definition = resolved.get(item);
+        if (definition != null)
+        {
+            return definition;
+        }
+        return RecipeHelpers.getRecipe(candidates, stack, item);
+    }
+
+    /**
+     * @return {@code true} if the result of {@link #get(ItemStack)} for a stack of {@code item} only depends on the item, and not on any
+     * other properties of the stack, such as its components.
+     */
+    public boolean dependsOnlyOnItem(Item item)
+    {
+        return resolved.containsKey(item) || candidates.getAll(item).isEmpty();
+    }
+
+    public int generation()
+    {
+        return generation;
+    }
+
+    @Override
+    public void clear()
+    {
+        candidates.clear();
+        resolved.clear();
+        generation++;
+    }
+
+    @Override
+    public void reload(RecipeManager manager)
+    {
+        final Collection<R> values = this.values.apply(manager);
+
+        candidates.reload(values);
+        resolved.clear();
+        for (R definition : values)
+        {
+            for (Item item : RecipeHelpers.itemKeys(ingredient.apply(definition)))
+            {
+                if (!resolved.containsKey(item))
+                {
+                    // Only resolve the item directly if this is the first candidate, and it will always match any stack of this item
+                    final R first = candidates.getAll(item).iterator().next();
+                    if (first == definition && ingredient.apply(definition).isSimple())
+                    {
+                        resolved.put(item, definition);
+                    }
+                }
+            }
+        }
+        generation++;
+    }
+}
@@ -7,6 +7,7 @@
 package net.dries007.tfc.util.data;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -24,6 +25,9 @@ import com.mojang.logging.LogUtils;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.JsonOps;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.RegistryAccess;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.resources.RegistryOps;
@@ -55,6 +59,8 @@ public class DataManager<T> extends SimpleJsonResourceReloadListener
     private final Map<ResourceLocation, Reference<T>> references = new HashMap<>();
     private final Object referencesLock = new Object();
 
+    private @Nullable Map<ResourceLocation, byte[]> lastSynced = null; // The encoded elements that were last sent to clients
+
     /**
      * Create a {@link DataManager} that is not synced to client
      */
@@ -124,7 +130,12 @@ public class DataManager<T> extends SimpleJsonResourceReloadListener
      */
     public Reference<T> getCheckedReference(ResourceLocation id)
     {
-        return references.computeIfAbsent(id, key -> new Reference<>(key, getOrThrow(id)));
+        final Reference<T> ref;
+        synchronized (referencesLock)
+        {
+            ref = references.computeIfAbsent(id, key -> new Reference<>(key, getOrThrow(id)));
+        }
+        return ref;
     }
 
     public Map<ResourceLocation, T> getElements()
@@ -190,6 +201,86 @@ public class DataManager<T> extends SimpleJsonResourceReloadListener
         LOGGER.info("Received {} {}(s) from physical server", byKey.size(), registryName);
     }
 
+    /**
+     * Updates the data manager with a partial set of networked elements, on top of the elements it already has. Only called on physical
+     * client connecting to a physical server, after an initial sync via {@link #bindValues(Map)}.
+     *
+     * @param changed Elements which were added or changed since the last sync
+     * @param removed Ids of elements which were removed since the last sync
+     */
+    public void bindChangedValues(Map<ResourceLocation, T> changed, Collection<ResourceLocation> removed)
+    {
+        final Map<ResourceLocation, T> elements = new HashMap<>(byKey);
+        elements.keySet().removeAll(removed);
+        elements.putAll(changed);
+
+        byKey = ImmutableMap.copyOf(elements);
+        updateReferences();
+        LOGGER.info("Received {} changed and {} removed {}(s) from physical server", changed.size(), removed.size(), registryName);
+    }
+
+    /**
+     * Forgets the elements that were last sent to clients. Called when the server stops, as the next server may have different elements
+     * even where they are the same as this server's last sync.
+     */
+    public void clearSyncState()
+    {
+        lastSynced = null;
+    }
+
+    /**
+     * Compares the current elements against the elements that were last sent to clients, by their encoded network form, and records the
+     * current elements as being synced. This is only used on the logical server, when syncing to all players after a reload.
+     *
+     * @return The elements which changed since the last sync, or {@code null} if there is no previous sync to compare against.
+     * @throws NullPointerException if {@link #isSynced()} is {@code false}
+     */
+    @Nullable
+    public SyncDelta<T> computeSyncDelta(RegistryAccess registryAccess)
+    {
+        final StreamCodec<RegistryFriendlyByteBuf, T> streamCodec = streamCodec();
+        final RegistryFriendlyByteBuf buffer = new RegistryFriendlyByteBuf(Unpooled.buffer(), registryAccess);
+        final Map<ResourceLocation, byte[]> encoded = new HashMap<>();
+        final Map<ResourceLocation, T> changed = new HashMap<>();
+        try
+        {
+            for (Map.Entry<ResourceLocation, T> entry : byKey.entrySet())
+            {
+                buffer.clear();
+                streamCodec.encode(buffer, entry.getValue());
+
+                final byte[] bytes = ByteBufUtil.getBytes(buffer);
+                final byte[] previous = lastSynced == null ? null : lastSynced.get(entry.getKey());
+                if (previous == null || !Arrays.equals(previous, bytes))
+                {
+                    changed.put(entry.getKey(), entry.getValue());
+                }
+                encoded.put(entry.getKey(), bytes);
+            }
+        }
+        finally
+        {
+            buffer.release();
+        }
+
+        final @Nullable Map<ResourceLocation, byte[]> previous = lastSynced;
+        lastSynced = encoded;
+        if (previous == null)
+        {
+            return null;
+        }
+
+        final List<ResourceLocation> removed = new ArrayList<>();
+        for (ResourceLocation id : previous.keySet())
+        {
+            if (!encoded.containsKey(id))
+            {
+                removed.add(id);
+            }
+        }
+        return new SyncDelta<>(changed, removed);
+    }
+
     /**
      * @return The registry name (excluding namespace) of this data manager
      */
@@ -253,6 +344,18 @@ public class DataManager<T> extends SimpleJsonResourceReloadListener
         toKey = Collections.unmodifiableMap(toKey);
     }
 
+    /**
+     * @param changed Elements which were added, or whose encoded form changed, since the last sync
+     * @param removed Ids of elements which were present in the last sync, but are no longer
+     */
+    public record SyncDelta<T>(Map<ResourceLocation, T> changed, List<ResourceLocation> removed)
+    {
+        public boolean isEmpty()
+        {
+            return changed.isEmpty() && removed.isEmpty();
+        }
+    }
+
     public static class Reference<T> implements Supplier<T>
     {
         private final ResourceLocation id;
@@ -7,6 +7,7 @@
 package net.dries007.tfc.util.data;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import com.mojang.serialization.Codec;
@@ -16,6 +17,7 @@ import com.mojang.serialization.codecs.RecordCodecBuilder;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
+import org.jetbrains.annotations.Nullable;
 
 
 /**
@@ -45,6 +47,9 @@ import net.minecraft.network.codec.StreamCodec;
  * This uses a fixed-size bitset to encode the pattern internally. A {@code true} value indicates the value is <strong>on</strong> at that position.
  * The bitset is variable width, to allow expressing smaller than 5x5 patterns.
  * <p>
+ * When used as a recipe pattern, every possible shifted and mirrored placement of this pattern within a full 5x5 grid is computed once, as
+ * a sorted array of 5x5 bitsets. Matching a full size grid against a pattern is then a single binary search.
+ * <p>
  * N.B. A 5x5 pattern should not need to declare {@code default_on}, as the limit for knapping recipes is 5x5
  */
 public final class KnappingPattern
@@ -52,6 +57,8 @@ public final class KnappingPattern
     public static final int MAX_WIDTH = 5;
     public static final int MAX_HEIGHT = 5;
 
+    private static final int MAX_MASK = (1 << (MAX_WIDTH * MAX_HEIGHT)) - 1;
+
     public static final MapCodec<KnappingPattern> CODEC = RecordCodecBuilder.<Prototype>mapCodec(i -> i.group(
         Codec.STRING.listOf(1, 5).fieldOf("pattern").forGetter(c -> c.pattern),
         Codec.BOOL.optionalFieldOf("default_on").forGetter(c -> c.defaultOn)
@@ -116,6 +123,11 @@ public final class KnappingPattern
      */
     private int data; // on = 1, off = 0
 
+    /**
+     * All placements of this pattern within a full size grid, as sorted, unique, bitsets. Computed lazily, and cleared on modification.
+     */
+    @Nullable private int[] variants;
+
     public KnappingPattern()
     {
         this(MAX_WIDTH, MAX_HEIGHT, false);
@@ -149,8 +161,19 @@ public final class KnappingPattern
         return defaultOn;
     }
 
+    /**
+     * @return The number of squares which are <strong>on</strong>, when this pattern is placed within a full size grid. This is independent of where
+     * the pattern is placed, or if it is mirrored, so any grid which {@link #matches} this pattern must have the same count.
+     */
+    public int countOn()
+    {
+        final int size = width * height;
+        return Integer.bitCount(data & ((1 << size) - 1)) + (defaultOn ? MAX_WIDTH * MAX_HEIGHT - size : 0);
+    }
+
     public void setAll(boolean value)
     {
+        variants = null;
         data = value ? (1 << (width * height)) - 1 : 0;
     }
 
@@ -162,6 +185,7 @@ public final class KnappingPattern
     public void set(int index, boolean value)
     {
         assert index >= 0 && index < 32;
+        variants = null;
         if (value)
         {
             data |= 1 << index;
@@ -203,6 +227,11 @@ public final class KnappingPattern
      */
     public boolean matches(KnappingPattern other)
     {
+        if (width == MAX_WIDTH && height == MAX_HEIGHT)
+        {
+            return Arrays.binarySearch(other.getVariants(), data & MAX_MASK) >= 0;
+        }
+
         // Check all possible shifted positions
         for (int dx = 0; dx <= this.width - other.width; dx++)
         {
@@ -217,6 +246,50 @@ public final class KnappingPattern
         return false;
     }
 
+    private int[] getVariants()
+    {
+        int[] variants = this.variants;
+        if (variants == null)
+        {
+            variants = computeVariants();
+            this.variants = variants;
+        }
+        return variants;
+    }
+
+    /**
+     * Computes the bitset of a full size grid, for each possible shifted position, and both orientations, that would match this pattern.
+     */
+    private int[] computeVariants()
+    {
+        final int[] variants = new int[2 * (MAX_WIDTH - width + 1) * (MAX_HEIGHT - height + 1)];
+        int count = 0;
+        for (int dx = 0; dx <= MAX_WIDTH - width; dx++)
+        {
+            for (int dy = 0; dy <= MAX_HEIGHT - height; dy++)
+            {
+                variants[count++] = placeInFullGrid(dx, dy, false);
+                variants[count++] = placeInFullGrid(dx, dy, true);
+            }
+        }
+        return Arrays.stream(variants).sorted().distinct().toArray();
+    }
+
+    private int placeInFullGrid(int startX, int startY, boolean mirror)
+    {
+        int grid = defaultOn ? MAX_MASK : 0;
+        for (int x = 0; x < width; x++)
+        {
+            for (int y = 0; y < height; y++)
+            {
+                final int gridIdx = (y + startY) * MAX_WIDTH + (x + startX);
+                final boolean value = get(y * width + (mirror ? width - 1 - x : x));
+                grid = value ? grid | (1 << gridIdx) : grid & ~(1 << gridIdx);
+            }
+        }
+        return grid;
+    }
+
     private boolean matches(KnappingPattern other, int startX, int startY, boolean mirror)
     {
         for (int x = 0; x < this.width; x++)
@@ -37,7 +37,10 @@ import org.jetbrains.annotations.Nullable;
 import net.dries007.tfc.client.TFCSounds;
 import net.dries007.tfc.common.TFCAttachments;
 import net.dries007.tfc.common.TFCTags;
+import net.dries007.tfc.common.entities.ai.EntityQueryCache;
+import net.dries007.tfc.common.entities.ai.livestock.NestBoxIndex;
 import net.dries007.tfc.common.entities.misc.TFCFallingBlockEntity;
+import net.dries007.tfc.common.entities.prey.PestTracker;
 import net.dries007.tfc.common.recipes.CollapseRecipe;
 import net.dries007.tfc.common.recipes.LandslideRecipe;
 import net.dries007.tfc.config.TFCConfig;
@@ -73,6 +76,9 @@ public final class WorldTracker
     private final List<Collapse> collapsesInProgress = new ArrayList<>();
 
     private final RotationNetworkManager rotationManager = new RotationNetworkManager();
+    private final NestBoxIndex nestBoxIndex = new NestBoxIndex();
+    private final EntityQueryCache entityQueryCache;
+    private final PestTracker pestTracker = new PestTracker();
 
     private ClimateModel climateModel = BiomeBasedClimateModel.INSTANCE;
     private boolean weatherEnabled = true;
@@ -80,6 +86,7 @@ public final class WorldTracker
     public WorldTracker(Level level)
     {
         this.level = level;
+        this.entityQueryCache = new EntityQueryCache(level);
         this.random = new XoroshiroRandomSource(RandomSupport.generateUniqueSeed());
     }
 
@@ -143,11 +150,33 @@ public final class WorldTracker
         return rotationManager;
     }
 
+    public NestBoxIndex getNestBoxIndex()
+    {
+        return nestBoxIndex;
+    }
+
+    public EntityQueryCache getEntityQueryCache()
+    {
+        return entityQueryCache;
+    }
+
+    public PestTracker getPestTracker()
+    {
+        return pestTracker;
+    }
+
     /**
      * Must only be called from logical server!
      */
     public void tick()
     {
+        if (level.getGameTime() % 20 == 0)
+        {
+            nestBoxIndex.tick(level.getGameTime());
+        }
+        entityQueryCache.tick();
+        pestTracker.tick();
+
         if (!collapsesInProgress.isEmpty() && random.nextInt(10) == 0)
         {
             for (Collapse collapse : collapsesInProgress)
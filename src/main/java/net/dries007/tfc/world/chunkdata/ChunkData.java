@@ -223,14 +223,14 @@ public sealed class ChunkData
     }
 
     /**
-     * Create an update packet to send to client with necessary information
+     * Create an update entry to send to client with necessary information, which is batched with other chunks into a {@link ChunkWatchPacket}
      */
-    public ChunkWatchPacket getUpdatePacket()
+    public ChunkWatchPacket.Entry getUpdateEntry()
     {
         assert status == Status.FULL;
         assert rainfallLayer != null && temperatureLayer != null && rainVarianceLayer != null && baseGroundwaterLayer != null;
 
-        return new ChunkWatchPacket(pos, rainfallLayer, rainVarianceLayer, baseGroundwaterLayer, temperatureLayer, forestType);
+        return new ChunkWatchPacket.Entry(pos, rainfallLayer, rainVarianceLayer, baseGroundwaterLayer, temperatureLayer, forestType);
     }
 
     /**
@@ -6,12 +6,10 @@
 
 package net.dries007.tfc.world.feature.tree;
 
-import java.util.Comparator;
-import java.util.List;
-import java.util.stream.Collectors;
 import com.mojang.serialization.Codec;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.Holder;
 import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.WorldGenLevel;
@@ -58,6 +56,8 @@ public class ForestFeature extends Feature<ForestConfig>
 
         if (random.nextFloat() > forestType.getPerChunkChance()) return false;
 
+        final Plan plan = new Plan(config, data, forestType);
+
         int treeCount = forestType.sampleTrees(random);
         int bushCount = forestType.sampleBushes(random);
 
@@ -66,22 +66,22 @@ public class ForestFeature extends Feature<ForestConfig>
 
         for (int i = 0; i < treeCount; i++)
         {
-            placedTrees |= placeTree(level, context.chunkGenerator(), random, pos, config, data, mutablePos, forestType);
+            placedTrees |= placeTree(level, context.chunkGenerator(), random, pos, plan, mutablePos);
         }
         for (int j = 0; j < bushCount; j++)
         {
-            placedBushes |= placeBush(level, random, pos, config, data, mutablePos, forestType);
+            placedBushes |= placeBush(level, random, pos, plan, mutablePos);
         }
         if (placedTrees)
         {
-            placeGroundcover(level, random, pos, config, data, mutablePos, forestType.sampleGroundcover(random), forestType);
-            placeLeafPile(level, random, pos, config, data, mutablePos, forestType.sampleLeafPiles(random), forestType);
-            placeFallenTree(level, random, pos, config, data, mutablePos, forestType);
+            placeGroundcover(level, random, pos, plan, mutablePos, forestType.sampleGroundcover(random));
+            placeLeafPile(level, random, pos, plan, mutablePos, forestType.sampleLeafPiles(random));
+            placeFallenTree(level, random, pos, plan, mutablePos);
         }
         return placedTrees || placedBushes;
     }
 
-    private boolean placeTree(WorldGenLevel level, ChunkGenerator generator, RandomSource random, BlockPos chunkBlockPos, ForestConfig config, ChunkData data, BlockPos.MutableBlockPos mutablePos, ForestType typeConfig)
+    private boolean placeTree(WorldGenLevel level, ChunkGenerator generator, RandomSource random, BlockPos chunkBlockPos, Plan plan, BlockPos.MutableBlockPos mutablePos)
     {
         final int chunkX = chunkBlockPos.getX();
         final int chunkZ = chunkBlockPos.getZ();
@@ -89,7 +89,8 @@ public class ForestFeature extends Feature<ForestConfig>
         mutablePos.set(chunkX + random.nextInt(16), 0, chunkZ + random.nextInt(16));
         mutablePos.setY(level.getHeight(Heightmap.Types.OCEAN_FLOOR_WG, mutablePos.getX(), mutablePos.getZ()));
 
-        final ForestConfig.Entry entry = getTree(data, random, config, mutablePos, typeConfig);
+        final ForestType typeConfig = plan.forestType;
+        final ForestConfig.Entry entry = plan.getTree(mutablePos, random);
         if (entry != null)
         {
             if (entry.floating())
@@ -129,7 +130,7 @@ public class ForestFeature extends Feature<ForestConfig>
         return false;
     }
 
-    private boolean placeBush(WorldGenLevel level, RandomSource random, BlockPos chunkBlockPos, ForestConfig config, ChunkData data, BlockPos.MutableBlockPos mutablePos, ForestType type)
+    private boolean placeBush(WorldGenLevel level, RandomSource random, BlockPos chunkBlockPos, Plan plan, BlockPos.MutableBlockPos mutablePos)
     {
         final int chunkX = chunkBlockPos.getX();
         final int chunkZ = chunkBlockPos.getZ();
@@ -137,7 +138,7 @@ public class ForestFeature extends Feature<ForestConfig>
         mutablePos.set(chunkX + random.nextInt(16), 0, chunkZ + random.nextInt(16));
         mutablePos.setY(level.getHeight(Heightmap.Types.WORLD_SURFACE_WG, mutablePos.getX(), mutablePos.getZ()));
 
-        final ForestConfig.Entry entry = getTree(data, random, config, mutablePos, type);
+        final ForestConfig.Entry entry = plan.getTree(mutablePos, random);
         if (entry != null && EnvironmentHelpers.canPlaceBushOn(level, mutablePos))
         {
             entry.bushLog().ifPresent(log -> entry.bushLeaves().ifPresent(leaves -> {
@@ -185,7 +186,7 @@ public class ForestFeature extends Feature<ForestConfig>
         }
     }
 
-    private void placeGroundcover(WorldGenLevel level, RandomSource random, BlockPos chunkBlockPos, ForestConfig config, ChunkData data, BlockPos.MutableBlockPos mutablePos, int tries, ForestType type)
+    private void placeGroundcover(WorldGenLevel level, RandomSource random, BlockPos chunkBlockPos, Plan plan, BlockPos.MutableBlockPos mutablePos, int tries)
     {
         if (tries == 0)
             return;
@@ -195,7 +196,7 @@ public class ForestFeature extends Feature<ForestConfig>
         mutablePos.set(chunkX + random.nextInt(16), 0, chunkZ + random.nextInt(16));
         mutablePos.setY(level.getHeight(Heightmap.Types.OCEAN_FLOOR, mutablePos.getX(), mutablePos.getZ()));
 
-        final ForestConfig.Entry entry = getTree(data, random, config, mutablePos, type);
+        final ForestConfig.Entry entry = plan.getTree(mutablePos, random);
         if (entry != null)
         {
             entry.groundcover().ifPresent(groundcover -> {
@@ -216,7 +217,7 @@ public class ForestFeature extends Feature<ForestConfig>
         }
     }
 
-    private void placeLeafPile(WorldGenLevel level, RandomSource random, BlockPos chunkBlockPos, ForestConfig config, ChunkData data, BlockPos.MutableBlockPos mutablePos, int tries, ForestType type)
+    private void placeLeafPile(WorldGenLevel level, RandomSource random, BlockPos chunkBlockPos, Plan plan, BlockPos.MutableBlockPos mutablePos, int tries)
     {
         final int chunkX = chunkBlockPos.getX();
         final int chunkZ = chunkBlockPos.getZ();
@@ -224,7 +225,7 @@ public class ForestFeature extends Feature<ForestConfig>
         mutablePos.set(chunkX + random.nextInt(16), 0, chunkZ + random.nextInt(16));
         mutablePos.setY(level.getHeight(Heightmap.Types.OCEAN_FLOOR, mutablePos.getX(), mutablePos.getZ()));
 
-        final ForestConfig.Entry entry = getTree(data, random, config, mutablePos, type);
+        final ForestConfig.Entry entry = plan.getTree(mutablePos, random);
         if (entry != null)
         {
             entry.fallenLeaves().ifPresent(placementState -> {
@@ -249,7 +250,7 @@ public class ForestFeature extends Feature<ForestConfig>
     }
 
 
-    private void placeFallenTree(WorldGenLevel level, RandomSource random, BlockPos chunkBlockPos, ForestConfig config, ChunkData data, BlockPos.MutableBlockPos mutablePos, ForestType type)
+    private void placeFallenTree(WorldGenLevel level, RandomSource random, BlockPos chunkBlockPos, Plan plan, BlockPos.MutableBlockPos mutablePos)
     {
         final int chunkX = chunkBlockPos.getX();
         final int chunkZ = chunkBlockPos.getZ();
@@ -262,7 +263,7 @@ public class ForestFeature extends Feature<ForestConfig>
         mutablePos.move(Direction.UP);
         if (Helpers.isBlock(downState, TFCTags.Blocks.BUSH_PLANTABLE_ON) || Helpers.isBlock(downState, TFCTags.Blocks.SEA_BUSH_PLANTABLE_ON))
         {
-            final ForestConfig.Entry entry = getTree(data, random, config, mutablePos, type);
+            final ForestConfig.Entry entry = plan.getTree(mutablePos, random);
             if (entry != null)
             {
                 final int fallChance = entry.fallenChance();
@@ -326,38 +327,70 @@ public class ForestFeature extends Feature<ForestConfig>
         }
     }
 
-    @Nullable
-    private ForestConfig.Entry getTree(ChunkData chunkData, RandomSource random, ForestConfig config, BlockPos pos, ForestType type)
+    /**
+     * Everything about forest placement which is shared by all passes within one chunk. The tree entries are resolved once, and selecting a
+     * tree for a position reuses the same buffers, rather than streaming, sorting, and collecting the entries for every candidate position.
+     */
+    static final class Plan
     {
-        final float groundwater = chunkData.getGroundwater(pos);
-        final float averageTemperature = EnvironmentHelpers.adjustAvgTempForElev(pos.getY(), chunkData.getAverageTemp(pos));
-        final List<ForestConfig.Entry> entries = config.entries().stream().map(configuredFeature -> configuredFeature.value().config()).map(cfg -> (ForestConfig.Entry) cfg)
-            .filter(entry -> entry.isValid(averageTemperature, groundwater))
-            .sorted(Comparator.comparingDouble(entry -> entry.distanceFromMean(averageTemperature, groundwater)))
-            .collect(Collectors.toList());
-
-        if (entries.isEmpty()) return null;
-        if (entries.size() == 1)
-            return entries.getFirst();
-        final int maxSize = type.getMaxTreeTypes();
-        final int originalSize = entries.size();
-        for (int i = maxSize; i < originalSize; i++)
-        {
-            entries.removeLast();
-        }
-        int alternate = type.getAlternateSize();
-        while (entries.size() > 1 && alternate > 0)
+        final ForestType forestType;
+
+        private final ChunkData chunkData;
+        private final ForestConfig.Entry[] entries;
+        private final ForestConfig.Entry[] candidates;
+        private final float[] distances;
+
+        Plan(ForestConfig config, ChunkData chunkData, ForestType forestType)
         {
-            entries.remove(0);
-            alternate--;
+            this.forestType = forestType;
+            this.chunkData = chunkData;
+            this.entries = config.entries().stream().map(Holder::value).map(feature -> (ForestConfig.Entry) feature.config()).toArray(ForestConfig.Entry[]::new);
+            this.candidates = new ForestConfig.Entry[entries.length];
+            this.distances = new float[entries.length];
         }
 
-        int index = 0;
-        while (index < entries.size() - 1 && random.nextFloat() < 0.6f)
+        /**
+         * Selects a tree which can grow at {@code pos}, preferring those closest to their ideal climate.
+         */
+        @Nullable
+        ForestConfig.Entry getTree(BlockPos pos, RandomSource random)
         {
-            index++;
+            final float groundwater = chunkData.getGroundwater(pos);
+            final float averageTemperature = EnvironmentHelpers.adjustAvgTempForElev(pos.getY(), chunkData.getAverageTemp(pos));
+
+            // Collect valid entries, ordered by distance from their mean climate. This is a stable insertion sort, as the list is small
+            int size = 0;
+            for (ForestConfig.Entry entry : entries)
+            {
+                if (entry.isValid(averageTemperature, groundwater))
+                {
+                    final float distance = entry.distanceFromMean(averageTemperature, groundwater);
+                    int index = size++;
+                    for (; index > 0 && Float.compare(distances[index - 1], distance) > 0; index--)
+                    {
+                        candidates[index] = candidates[index - 1];
+                        distances[index] = distances[index - 1];
+                    }
+                    candidates[index] = entry;
+                    distances[index] = distance;
+                }
+            }
+
+            if (size == 0) return null;
+            if (size == 1)
+                return candidates[0];
+
+            // Keep at most the closest maxTreeTypes entries, then skip up to alternateSize of the closest, keeping at least one
+            size = Math.min(size, forestType.getMaxTreeTypes());
+            final int start = Math.max(0, Math.min(forestType.getAlternateSize(), size - 1));
+
+            int index = start;
+            while (index < size - 1 && random.nextFloat() < 0.6f)
+            {
+                index++;
+            }
+            return candidates[index];
         }
-        return entries.get(index);
     }
 
     /**
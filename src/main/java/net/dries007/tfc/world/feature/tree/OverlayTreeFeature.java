@@ -6,6 +6,7 @@
 
 package net.dries007.tfc.world.feature.tree;
 
+import java.util.List;
 import com.mojang.serialization.Codec;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.ChunkPos;
@@ -15,7 +16,6 @@ import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 import net.minecraft.world.level.levelgen.structure.templatesystem.BlockRotProcessor;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructurePlaceSettings;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
-import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplateManager;
 
 public class OverlayTreeFeature extends Feature<OverlayTreeConfig>
 {
@@ -34,10 +34,10 @@ public class OverlayTreeFeature extends Feature<OverlayTreeConfig>
 
         final ChunkPos chunkPos = new ChunkPos(pos);
         final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos().set(pos);
-        final StructureTemplateManager manager = TreeHelpers.getStructureManager(level);
         final StructurePlaceSettings settings = TreeHelpers.getPlacementSettings(level, chunkPos, random);
-        final StructureTemplate structureBase = manager.getOrCreate(config.base());
-        final StructureTemplate structureOverlay = manager.getOrCreate(config.overlay());
+        final StructureTemplate[] structures = TreeHelpers.getTemplates(level, config, List.of(config.base(), config.overlay()));
+        final StructureTemplate structureBase = structures[0];
+        final StructureTemplate structureOverlay = structures[1];
 
         if (TreeHelpers.isValidLocation(level, pos, settings, config.placement()))
         {
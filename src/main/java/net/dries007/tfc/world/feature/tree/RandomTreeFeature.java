@@ -8,7 +8,6 @@ package net.dries007.tfc.world.feature.tree;
 
 import com.mojang.serialization.Codec;
 import net.minecraft.core.BlockPos;
-import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.WorldGenLevel;
@@ -16,9 +15,6 @@ import net.minecraft.world.level.levelgen.feature.Feature;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructurePlaceSettings;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
-import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplateManager;
-
-import net.dries007.tfc.mixin.accessor.StructureTemplateAccessor;
 
 public class RandomTreeFeature extends Feature<RandomTreeConfig>
 {
@@ -37,14 +33,9 @@ public class RandomTreeFeature extends Feature<RandomTreeConfig>
 
         final ChunkPos chunkPos = new ChunkPos(pos);
         final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos().set(pos);
-        final StructureTemplateManager manager = TreeHelpers.getStructureManager(level);
         final StructurePlaceSettings settings = TreeHelpers.getPlacementSettings(level, chunkPos, random);
-        final ResourceLocation structureId = config.structureNames().get(random.nextInt(config.structureNames().size()));
-        final StructureTemplate structure = manager.getOrCreate(structureId);
-        if (((StructureTemplateAccessor) structure).accessor$getPalettes().isEmpty())
-        {
-            throw new IllegalStateException("Empty structure: " + structureId);
-        }
+        final StructureTemplate[] structures = TreeHelpers.getTemplates(level, config.structureNames(), config.structureNames());
+        final StructureTemplate structure = structures[random.nextInt(structures.length)];
 
         if (TreeHelpers.isValidLocation(level, pos, settings, config.placement()))
         {
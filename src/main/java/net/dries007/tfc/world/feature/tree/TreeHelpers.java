@@ -9,17 +9,21 @@ package net.dries007.tfc.world.feature.tree;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
+import com.google.common.collect.MapMaker;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Vec3i;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.tags.FluidTags;
 import net.minecraft.util.RandomSource;
+import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.LevelHeightAccessor;
 import net.minecraft.world.level.ServerLevelAccessor;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.Mirror;
 import net.minecraft.world.level.block.Rotation;
 import net.minecraft.world.level.block.SaplingBlock;
@@ -32,6 +36,7 @@ import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemp
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplateManager;
 import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.level.material.Fluids;
+import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.common.TFCTags;
 import net.dries007.tfc.common.blocks.RiverWaterBlock;
@@ -43,6 +48,7 @@ import net.dries007.tfc.mixin.accessor.StructureTemplateAccessor;
 import net.dries007.tfc.util.EnvironmentHelpers;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.collections.IWeighted;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 /**
  * Helpers class for working with tree generation
@@ -53,6 +59,19 @@ public final class TreeHelpers
     private static final Rotation[] ROTATION_VALUES = Rotation.values();
     private static final Mirror[] MIRROR_VALUES = Mirror.values();
 
+    /**
+     * Template palettes, transformed for each combination of mirror and rotation, indexed by {@link #transformIndex(Mirror, Rotation)}. Keys
+     * are weak, so the palettes of templates which are replaced on reload are dropped.
+     */
+    private static final Map<StructureTemplate.Palette, TransformedPalette[]> TRANSFORMED_PALETTES = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * Structure templates referenced by each tree feature config, keyed by the config (or part of it) by identity, and resolved on first
+     * use. Cleared whenever data is reloaded, as the structure manager creates new templates then. Keys are weak, so configs from previous
+     * world loads are dropped.
+     */
+    private static final Map<Object, StructureTemplate[]> TEMPLATES = IndirectHashCollection.create(new TemplateCache(new MapMaker().weakKeys().makeMap())).templates();
+
     public static boolean isValidLocation(LevelAccessor level, BlockPos pos, StructurePlaceSettings settings, TreePlacementConfig config)
     {
         return isValidGround(level, pos, settings, config) && isValidTrunk(level, pos, settings, config);
@@ -192,28 +211,64 @@ public final class TreeHelpers
     /**
      * A variant of {@link StructureTemplate#placeInWorld(ServerLevelAccessor, BlockPos, BlockPos, StructurePlaceSettings, RandomSource, int)} that is much simpler and faster for use in tree generation
      * Allows replacing leaves and air blocks
+     * <p>
+     * With the default processors from {@link #getPlacementSettings(LevelHeightAccessor, ChunkPos, RandomSource)}, the template is transformed
+     * once per mirror and rotation, and cached, so only the checks against the world are done per tree.
      */
+    @SuppressWarnings("deprecation") // No world, can't rotate with world context
     public static void placeTemplate(StructureTemplate template, StructurePlaceSettings placementIn, ServerLevelAccessor level, BlockPos pos)
     {
-        final List<StructureTemplate.StructureBlockInfo> transformedBlockInfos = placementIn.getRandomPalette(((StructureTemplateAccessor) template).accessor$getPalettes(), pos).blocks();
-        BoundingBox boundingBox = placementIn.getBoundingBox();
-        for (StructureTemplate.StructureBlockInfo blockInfo : StructureTemplate.processBlockInfos(level, pos, pos, placementIn, transformedBlockInfos, template))
+        final StructureTemplate.Palette palette = placementIn.getRandomPalette(((StructureTemplateAccessor) template).accessor$getPalettes(), pos);
+        final @Nullable BoundingBox boundingBox = placementIn.getBoundingBox();
+        if (!placementIn.getProcessors().equals(List.of(BlockIgnoreProcessor.STRUCTURE_AND_AIR)) || !placementIn.getRotationPivot().equals(BlockPos.ZERO))
         {
-            BlockPos posAt = blockInfo.pos();
-            if (boundingBox == null || boundingBox.isInside(posAt))
+            // Processors may depend on the world or be random, so they need to be applied per tree
+            for (StructureTemplate.StructureBlockInfo blockInfo : StructureTemplate.processBlockInfos(level, pos, pos, placementIn, palette.blocks(), template))
             {
-                BlockState stateAt = level.getBlockState(posAt);
-                if (EnvironmentHelpers.isWorldgenReplaceable(stateAt) || Helpers.isBlock(stateAt.getBlock(), BlockTags.LEAVES))
-                {
-                    // No world, can't rotate with world context
-                    @SuppressWarnings("deprecation")
-                    BlockState stateReplace = blockInfo.state().mirror(placementIn.getMirror()).rotate(placementIn.getRotation());
-                    level.setBlock(posAt, stateReplace, 2);
-                }
+                placeTemplateBlock(level, blockInfo.pos(), blockInfo.state().mirror(placementIn.getMirror()).rotate(placementIn.getRotation()), boundingBox);
+            }
+            return;
+        }
+
+        final TransformedPalette transformed = getTransformedPalette(palette, placementIn.getMirror(), placementIn.getRotation());
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (int i = 0; i < transformed.states.length; i++)
+        {
+            placeTemplateBlock(level, cursor.setWithOffset(pos, transformed.offsets[i]), transformed.states[i], boundingBox);
+        }
+    }
+
+    private static void placeTemplateBlock(ServerLevelAccessor level, BlockPos posAt, BlockState stateReplace, @Nullable BoundingBox boundingBox)
+    {
+        if (boundingBox == null || boundingBox.isInside(posAt))
+        {
+            final BlockState stateAt = level.getBlockState(posAt);
+            if (EnvironmentHelpers.isWorldgenReplaceable(stateAt) || Helpers.isBlock(stateAt.getBlock(), BlockTags.LEAVES))
+            {
+                level.setBlock(posAt, stateReplace, 2);
             }
         }
     }
 
+    private static TransformedPalette getTransformedPalette(StructureTemplate.Palette palette, Mirror mirror, Rotation rotation)
+    {
+        final TransformedPalette[] transforms = TRANSFORMED_PALETTES.computeIfAbsent(palette, key -> new TransformedPalette[MIRROR_VALUES.length * ROTATION_VALUES.length]);
+        final int index = transformIndex(mirror, rotation);
+        TransformedPalette transformed = transforms[index];
+        if (transformed == null)
+        {
+            // Racing threads compute identical results, so whichever is stored doesn't matter
+            transformed = TransformedPalette.create(palette.blocks(), mirror, rotation);
+            transforms[index] = transformed;
+        }
+        return transformed;
+    }
+
+    private static int transformIndex(Mirror mirror, Rotation rotation)
+    {
+        return mirror.ordinal() * ROTATION_VALUES.length + rotation.ordinal();
+    }
+
     /**
      * Place a trunk from a trunk config
      *
@@ -285,6 +340,28 @@ public final class TreeHelpers
         return level.getLevel().getServer().getStructureManager();
     }
 
+    /**
+     * @param owner The part of a feature config which holds {@code ids}, which is used as the cache key, by identity
+     * @param ids   The ids of structure templates to resolve, which must always be the same for the same {@code owner}
+     * @return The structure templates for each of {@code ids}, in order
+     */
+    public static StructureTemplate[] getTemplates(WorldGenLevel level, Object owner, List<ResourceLocation> ids)
+    {
+        return TEMPLATES.computeIfAbsent(owner, key -> {
+            final StructureTemplateManager manager = getStructureManager(level);
+            final StructureTemplate[] templates = new StructureTemplate[ids.size()];
+            for (int i = 0; i < templates.length; i++)
+            {
+                templates[i] = manager.getOrCreate(ids.get(i));
+                if (((StructureTemplateAccessor) templates[i]).accessor$getPalettes().isEmpty())
+                {
+                    throw new IllegalStateException("Empty structure: " + ids.get(i));
+                }
+            }
+            return templates;
+        });
+    }
+
     /**
      * Constructs a placement settings instance useful for tree generation
      * Applies a random rotation and mirror
@@ -363,4 +440,33 @@ public final class TreeHelpers
     {
         return MIRROR_VALUES[random.nextInt(MIRROR_VALUES.length)];
     }
+
+    record TemplateCache(Map<Object, StructureTemplate[]> templates) implements IndirectHashCollection.Cache
+    {
+        @Override public void clear() { templates.clear(); }
+        @Override public void reload(RecipeManager manager) { templates.clear(); }
+    }
+
+    /**
+     * The blocks of a template palette after applying {@link BlockIgnoreProcessor#STRUCTURE_AND_AIR}, with offsets from the template origin,
+     * and states, both mirrored and rotated.
+     */
+    record TransformedPalette(BlockPos[] offsets, BlockState[] states)
+    {
+        @SuppressWarnings("deprecation") // No world, can't rotate with world context
+        static TransformedPalette create(List<StructureTemplate.StructureBlockInfo> blocks, Mirror mirror, Rotation rotation)
+        {
+            final List<StructureTemplate.StructureBlockInfo> placed = blocks.stream()
+                .filter(info -> !info.state().is(Blocks.AIR) && !info.state().is(Blocks.STRUCTURE_BLOCK))
+                .toList();
+            final BlockPos[] offsets = new BlockPos[placed.size()];
+            final BlockState[] states = new BlockState[placed.size()];
+            for (int i = 0; i < placed.size(); i++)
+            {
+                offsets[i] = StructureTemplate.transform(placed.get(i).pos(), mirror, rotation, BlockPos.ZERO);
+                states[i] = placed.get(i).state().mirror(mirror).rotate(rotation);
+            }
+            return new TransformedPalette(offsets, states);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.feature.vein;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import it.unimi.dsi.fastutil.HashCommon;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A concurrent, lossy cache of the vein (if any) which originates in a single chunk, for a single vein configuration. Every chunk generated
+ * queries all chunks within the vein's radius, so without this, each candidate vein would be created, and have its biome checked, once per
+ * chunk in that window.
+ * <p>
+ * Entries are immutable and replaced atomically, so no locking is required. A collision simply evicts the previous entry.
+ */
+final class VeinCache<V extends IVein>
+{
+    private final AtomicReferenceArray<Entry<V>> entries;
+    private final int mask;
+
+    VeinCache(int size)
+    {
+        size = Mth.smallestEncompassingPowerOfTwo(size);
+
+        this.mask = size - 1;
+        this.entries = new AtomicReferenceArray<>(size);
+    }
+
+    /**
+     * @return The cached entry for the given key, or {@code null} if it is not present.
+     */
+    @Nullable
+    Entry<V> get(IVeinConfig config, long seed, ResourceKey<Level> dimension, int chunkX, int chunkZ)
+    {
+        final Entry<V> entry = entries.get(index(config, seed, chunkX, chunkZ));
+        return entry != null && entry.matches(config, seed, dimension, chunkX, chunkZ) ? entry : null;
+    }
+
+    /**
+     * @param vein The vein originating in this chunk, or {@code null} if none generates there, including if it is in an invalid biome.
+     */
+    void put(IVeinConfig config, long seed, ResourceKey<Level> dimension, int chunkX, int chunkZ, @Nullable V vein)
+    {
+        entries.set(index(config, seed, chunkX, chunkZ), new Entry<>(config, seed, dimension, chunkX, chunkZ, vein));
+    }
+
+    private int index(IVeinConfig config, long seed, int chunkX, int chunkZ)
+    {
+        return (int) HashCommon.mix(ChunkPos.asLong(chunkX, chunkZ) ^ seed ^ ((long) System.identityHashCode(config) << 16)) & mask;
+    }
+
+    record Entry<V extends IVein>(IVeinConfig config, long seed, ResourceKey<Level> dimension, int chunkX, int chunkZ, @Nullable V vein)
+    {
+        boolean matches(IVeinConfig config, long seed, ResourceKey<Level> dimension, int chunkX, int chunkZ)
+        {
+            return this.config == config && this.seed == seed && this.dimension == dimension && this.chunkX == chunkX && this.chunkZ == chunkZ;
+        }
+    }
+}
@@ -12,8 +12,10 @@ import java.util.function.Function;
 import com.mojang.serialization.Codec;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.block.Blocks;
@@ -34,6 +36,9 @@ import net.dries007.tfc.util.Helpers;
 public abstract class VeinFeature<C extends IVeinConfig, V extends IVein> extends Feature<C>
 {
     private static final int MAX_VEIN_Y_NO_ORE_PLACED = Integer.MIN_VALUE;
+    private static final int VEIN_CACHE_SIZE = 4096;
+
+    private final VeinCache<V> veinCache = new VeinCache<>(VEIN_CACHE_SIZE);
 
     public VeinFeature(Codec<C> codec)
     {
@@ -75,7 +80,33 @@ public abstract class VeinFeature<C extends IVeinConfig, V extends IVein> extend
         return veins;
     }
 
+    /**
+     * Adds the vein originating in the given chunk, if any, to {@code veins}. Results, including the biome check, are cached per vein config and chunk, as
+     * each chunk is queried by all chunks within the vein radius. The {@code biomeQuery} must therefore be deterministic for a given level.
+     */
     public final void getVeinsAtChunk(WorldGenLevel level, WorldGenerationContext context, int chunkPosX, int chunkPosZ, List<V> veins, C config, Function<BlockPos, Holder<Biome>> biomeQuery)
+    {
+        final long seed = level.getSeed();
+        final ResourceKey<Level> dimension = level.getLevel().dimension();
+        final VeinCache.Entry<V> entry = veinCache.get(config, seed, dimension, chunkPosX, chunkPosZ);
+        final V vein;
+        if (entry != null)
+        {
+            vein = entry.vein();
+        }
+        else
+        {
+            vein = createVeinAtChunk(level, context, chunkPosX, chunkPosZ, config, biomeQuery);
+            veinCache.put(config, seed, dimension, chunkPosX, chunkPosZ, vein);
+        }
+        if (vein != null)
+        {
+            veins.add(vein);
+        }
+    }
+
+    @Nullable
+    private V createVeinAtChunk(WorldGenLevel level, WorldGenerationContext context, int chunkPosX, int chunkPosZ, C config, Function<BlockPos, Holder<Biome>> biomeQuery)
     {
         final RandomSource random = new XoroshiroRandomSource(level.getSeed() ^ chunkPosX * 61728364132L, config.config().seed() ^ chunkPosZ * 16298364123L);
         if (random.nextInt(config.config().rarity()) == 0)
@@ -83,9 +114,10 @@ public abstract class VeinFeature<C extends IVeinConfig, V extends IVein> extend
             final V vein = createVein(context, chunkPosX << 4, chunkPosZ << 4, random, config);
             if (config.canSpawnAt(vein.pos(), biomeQuery))
             {
-                veins.add(vein);
+                return vein;
             }
         }
+        return null;
     }
 
     protected void place(WorldGenLevel level, RandomSource random, int blockX, int blockZ, V vein, C config)
@@ -0,0 +1,166 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.level.ChunkPos;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.network.ChunkWatchPacket;
+import net.dries007.tfc.world.chunkdata.ForestType;
+import net.dries007.tfc.world.chunkdata.LerpFloatLayer;
+
+import static net.dries007.tfc.network.ChunkWatchPacket.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChunkWatchPacketTest
+{
+    static final float TOLERANCE = 1 / 256f;
+
+    @Test
+    public void testFullRegion()
+    {
+        final List<Entry> entries = new ArrayList<>();
+        for (int x = 0; x < REGION_SIZE; x++)
+        {
+            for (int z = 0; z < REGION_SIZE; z++)
+            {
+                entries.add(smoothEntry(new ChunkPos(3 * REGION_SIZE + x, 5 * REGION_SIZE + z), ForestType.values()[(x + z) % ForestType.values().length]));
+            }
+        }
+        assertRoundTrip(new ChunkWatchPacket(3, 5, entries));
+    }
+
+    @Test
+    public void testPartialRegion()
+    {
+        final Random random = new Random(1234);
+        final List<Entry> entries = new ArrayList<>();
+        for (int x = 0; x < REGION_SIZE; x++)
+        {
+            for (int z = 0; z < REGION_SIZE; z++)
+            {
+                if (random.nextInt(3) == 0)
+                {
+                    entries.add(smoothEntry(new ChunkPos(-2 * REGION_SIZE + x, -7 * REGION_SIZE + z), ForestType.GRASSLAND));
+                }
+            }
+        }
+        assertRoundTrip(new ChunkWatchPacket(-2, -7, entries));
+    }
+
+    @Test
+    public void testSingleChunk()
+    {
+        assertRoundTrip(new ChunkWatchPacket(-1, 0, List.of(smoothEntry(new ChunkPos(-1, 7), ForestType.DEAD_BAMBOO))));
+    }
+
+    @Test
+    public void testMismatchedCorners()
+    {
+        // Adjacent chunks which disagree on every shared corner, on every layer
+        final Random random = new Random(5678);
+        final List<Entry> entries = new ArrayList<>();
+        for (int x = 0; x < 4; x++)
+        {
+            for (int z = 0; z < 3; z++)
+            {
+                entries.add(new Entry(new ChunkPos(x, z), randomLayer(random, 0, 500), randomLayer(random, -1, 1), randomLayer(random, 0, 500), randomLayer(random, -30, 30), ForestType.SPARSE));
+            }
+        }
+        assertRoundTrip(new ChunkWatchPacket(0, 0, entries));
+    }
+
+    @Test
+    public void testSomeMismatchedCorners()
+    {
+        // A smooth region, with a few chunks which disagree with their neighbours on a single layer
+        final List<Entry> entries = new ArrayList<>();
+        for (int x = 0; x < REGION_SIZE; x++)
+        {
+            for (int z = 0; z < REGION_SIZE; z++)
+            {
+                final Entry entry = smoothEntry(new ChunkPos(x, REGION_SIZE + z), ForestType.EDGE_DIVERSE);
+                entries.add((x * 3 + z) % 7 == 0
+                    ? new Entry(entry.pos(), entry.rainfall(), entry.rainVariance(), new LerpFloatLayer(100.3f, 12.7f, 0f, 499.9f), entry.temperature(), entry.forestType())
+                    : entry);
+            }
+        }
+        assertRoundTrip(new ChunkWatchPacket(0, 1, entries));
+    }
+
+    private void assertRoundTrip(ChunkWatchPacket packet)
+    {
+        final FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        ChunkWatchPacket.CODEC.encode(buffer, packet);
+        final ChunkWatchPacket decoded = ChunkWatchPacket.CODEC.decode(buffer);
+
+        assertEquals(0, buffer.readableBytes(), "Bytes left over after decoding");
+        assertEquals(packet.regionX(), decoded.regionX());
+        assertEquals(packet.regionZ(), decoded.regionZ());
+        assertEquals(packet.entries().size(), decoded.entries().size());
+        for (int i = 0; i < packet.entries().size(); i++)
+        {
+            final Entry expected = packet.entries().get(i);
+            final Entry actual = decoded.entries().get(i);
+            assertEquals(expected.pos(), actual.pos());
+            assertEquals(expected.forestType(), actual.forestType());
+            assertLayerEquals(expected.rainfall(), actual.rainfall(), expected.pos() + " rainfall");
+            assertLayerEquals(expected.rainVariance(), actual.rainVariance(), expected.pos() + " rain variance");
+            assertLayerEquals(expected.baseGroundwater(), actual.baseGroundwater(), expected.pos() + " base groundwater");
+            assertLayerEquals(expected.temperature(), actual.temperature(), expected.pos() + " temperature");
+        }
+    }
+
+    private void assertLayerEquals(LerpFloatLayer expected, LerpFloatLayer actual, String message)
+    {
+        assertEquals(expected.value00(), actual.value00(), TOLERANCE, message + " [00]");
+        assertEquals(expected.value01(), actual.value01(), TOLERANCE, message + " [01]");
+        assertEquals(expected.value10(), actual.value10(), TOLERANCE, message + " [10]");
+        assertEquals(expected.value11(), actual.value11(), TOLERANCE, message + " [11]");
+    }
+
+    /**
+     * @return An entry whose layers are sampled from smooth fields at the chunk's corners, so adjacent chunks agree on shared corners.
+     */
+    private Entry smoothEntry(ChunkPos pos, ForestType forestType)
+    {
+        return new Entry(pos,
+            smoothLayer(pos, 250f, 180f, 0.013f),
+            smoothLayer(pos, 0f, 0.9f, 0.021f),
+            smoothLayer(pos, 200f, 150f, 0.017f),
+            smoothLayer(pos, 5f, 22f, 0.009f),
+            forestType);
+    }
+
+    private LerpFloatLayer smoothLayer(ChunkPos pos, float mean, float amplitude, float frequency)
+    {
+        return new LerpFloatLayer(
+            smooth(pos.x, pos.z, mean, amplitude, frequency),
+            smooth(pos.x, pos.z + 1, mean, amplitude, frequency),
+            smooth(pos.x + 1, pos.z, mean, amplitude, frequency),
+            smooth(pos.x + 1, pos.z + 1, mean, amplitude, frequency));
+    }
+
+    private float smooth(int x, int z, float mean, float amplitude, float frequency)
+    {
+        return mean + amplitude * (float) Math.sin(x * frequency * 16) * (float) Math.cos(z * frequency * 16);
+    }
+
+    private LerpFloatLayer randomLayer(Random random, float min, float max)
+    {
+        return new LerpFloatLayer(
+            min + random.nextFloat() * (max - min),
+            min + random.nextFloat() * (max - min),
+            min + random.nextFloat() * (max - min),
+            min + random.nextFloat() * (max - min));
+    }
+}
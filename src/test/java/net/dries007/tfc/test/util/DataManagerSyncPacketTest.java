@@ -0,0 +1,86 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test.util;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import com.mojang.serialization.Codec;
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.resources.ResourceLocation;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.network.DataManagerSyncPacket.Entry;
+import net.dries007.tfc.test.TestSetup;
+import net.dries007.tfc.util.data.DataManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DataManagerSyncPacketTest implements TestSetup
+{
+    static final StreamCodec<RegistryFriendlyByteBuf, String> VALUE_CODEC = ByteBufCodecs.STRING_UTF8.cast();
+    static final DataManager<String> MANAGER = new DataManager<>(ResourceLocation.fromNamespaceAndPath("tfc", "test"), Codec.STRING, VALUE_CODEC);
+
+    @Test
+    public void testEmpty()
+    {
+        assertRoundTrip(new Entry<>(MANAGER, true, Map.of(), List.of()));
+        assertRoundTrip(new Entry<>(MANAGER, false, Map.of(), List.of()));
+    }
+
+    @Test
+    public void testFullSingleNamespace()
+    {
+        final Map<ResourceLocation, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < 50; i++)
+        {
+            values.put(id("tfc", "element/" + i), "value " + i);
+        }
+        assertRoundTrip(new Entry<>(MANAGER, true, values, List.of()));
+    }
+
+    @Test
+    public void testChangedManyNamespaces()
+    {
+        final Map<ResourceLocation, String> values = new LinkedHashMap<>();
+        values.put(id("tfc", "a"), "tfc a");
+        values.put(id("minecraft", "a"), "minecraft a");
+        values.put(id("addon", "deeply/nested/path"), "");
+        values.put(id("tfc", "b"), "tfc b");
+        values.put(id("other_addon", "x"), "unicode é中");
+        assertRoundTrip(new Entry<>(MANAGER, false, values, List.of(id("tfc", "c"), id("removed_only", "y"), id("minecraft", "b"))));
+    }
+
+    @Test
+    public void testOnlyRemoved()
+    {
+        // Namespaces which only appear in the removed ids must still be written to the table
+        assertRoundTrip(new Entry<>(MANAGER, false, Map.of(), List.of(id("removed_only", "a"), id("removed_only", "b"), id("another", "c"))));
+    }
+
+    private void assertRoundTrip(Entry<String> entry)
+    {
+        final RegistryFriendlyByteBuf buffer = new RegistryFriendlyByteBuf(Unpooled.buffer(), RegistryAccess.EMPTY);
+        entry.encode(buffer, VALUE_CODEC);
+        final Entry<String> decoded = Entry.decode(buffer, MANAGER, VALUE_CODEC);
+
+        assertEquals(0, buffer.readableBytes(), "Bytes left over after decoding");
+        assertSame(MANAGER, decoded.manager());
+        assertEquals(entry.full(), decoded.full());
+        assertEquals(entry.values(), decoded.values());
+        assertEquals(entry.removed(), decoded.removed());
+    }
+
+    private ResourceLocation id(String namespace, String path)
+    {
+        return ResourceLocation.fromNamespaceAndPath(namespace, path);
+    }
+}
@@ -77,4 +77,51 @@ public class KnappingPatternTest
                                 assertTrue(p.get(x0, y0));
                 }))).flatMap(t -> t);
     }
+
+    @Test
+    public void testCountOn()
+    {
+        assertEquals(25, new KnappingPattern().countOn());
+        assertEquals(3, KnappingPattern.from(false, "# #", " # ").countOn());
+        assertEquals(22, KnappingPattern.from(true, "# #", " # ").countOn());
+    }
+
+    @Test
+    public void testMatchesShiftedAndMirrored()
+    {
+        final KnappingPattern recipe = KnappingPattern.from(false, "## ", " ##");
+        for (int dx = 0; dx <= 2; dx++)
+        {
+            for (int dy = 0; dy <= 3; dy++)
+            {
+                for (boolean mirror : new boolean[] {false, true})
+                {
+                    final KnappingPattern grid = new KnappingPattern();
+                    grid.setAll(false);
+                    grid.set(dx + (mirror ? 2 : 0), dy, true);
+                    grid.set(dx + 1, dy, true);
+                    grid.set(dx + 1, dy + 1, true);
+                    grid.set(dx + (mirror ? 0 : 2), dy + 1, true);
+
+                    assertTrue(grid.matches(recipe), "dx = " + dx + ", dy = " + dy + ", mirror = " + mirror);
+                    assertEquals(recipe.countOn(), grid.countOn());
+
+                    grid.set(0, 4 - dy, !grid.get(0, 4 - dy));
+                    assertFalse(grid.matches(recipe), "dx = " + dx + ", dy = " + dy + ", mirror = " + mirror + ", modified");
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testMatchesDefaultOn()
+    {
+        final KnappingPattern recipe = KnappingPattern.from(true, " ");
+        final KnappingPattern grid = new KnappingPattern();
+        assertFalse(grid.matches(recipe));
+        grid.set(3, 4, false);
+        assertTrue(grid.matches(recipe));
+        grid.set(0, 0, false);
+        assertFalse(grid.matches(recipe));
+    }
 }